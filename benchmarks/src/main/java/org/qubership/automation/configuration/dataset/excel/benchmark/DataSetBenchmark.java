@@ -0,0 +1,196 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.benchmark;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.qubership.automation.configuration.dataset.excel.builder.DataSetBuilder;
+import org.qubership.automation.configuration.dataset.excel.builder.FinishBuilder;
+import org.qubership.automation.configuration.dataset.excel.core.DS;
+import org.qubership.automation.configuration.dataset.excel.core.DSList;
+import org.qubership.automation.configuration.dataset.excel.core.ReevaluateFormulas;
+
+import com.google.common.collect.Lists;
+
+/**
+ * <pre>
+ * Throughput of the dataset pipeline on synthetic workbooks:
+ * - build: {@link FinishBuilder#build()} and forming of all DSLists (headers reading),
+ * - firstAccess: the same plus {@link DSList#getParameters()} and {@link DS#getVariables()} of all datasets,
+ * - repeatedAccess: {@link DS#getVariables()} of all datasets of the already read DSLists.
+ * The workbook is opened once per trial, so the file parsing is not measured.
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataSetBenchmark {
+
+    /**
+     * Number of sheets.
+     */
+    @Param({"5", "40"})
+    public int sheets;
+
+    /**
+     * Number of parameters per sheet.
+     */
+    @Param({"200"})
+    public int params;
+
+    /**
+     * Number of datasets per sheet.
+     */
+    @Param({"20"})
+    public int dataSets;
+
+    /**
+     * Part of values which are formulas.
+     */
+    @Param({"0", "0.2"})
+    public double formulaRatio;
+
+    /**
+     * Strategy of formulas re-evaluation.
+     */
+    @Param({"NEVER", "ONCE", "ON_DS_ACCESS", "IN_CONVERTER", "ON_CELL_CHANGE", "CACHED", "ALWAYS"})
+    public ReevaluateFormulas strategy;
+
+    /**
+     * Generated file.
+     */
+    private File file;
+
+    /**
+     * Workbook opened from the file.
+     */
+    private Workbook wb;
+
+    /**
+     * Configured builder.
+     */
+    private FinishBuilder<String, List<String>, Pair<String, String>, Map<String, String>> builder;
+
+    /**
+     * DSLists read during setup, for repeated access.
+     */
+    private List<DSList<String, List<String>, Map<String, String>>> readLists;
+
+    /**
+     * Generate and open the workbook; prepare DSLists for repeated access.
+     *
+     * @throws Exception in case IO errors occurred.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        file = SyntheticWorkbook.generate(sheets, params, dataSets, formulaRatio);
+        wb = WorkbookFactory.create(file, null, true);
+        builder = DataSetBuilder.create(wb)
+                .forAllSheets()
+                .forAllDataSets()
+                .listOfStringsParams()
+                .mapVars((entity, param, convertedParam, value) ->
+                        Pair.of(convertedParam, value.getStringValue()), strategy);
+        readLists = Lists.newArrayList(builder.build());
+        readAll(readLists, result -> {
+        });
+    }
+
+    /**
+     * Close the workbook and remove the file.
+     *
+     * @throws Exception in case IO errors occurred.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        wb.close();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * Build DSLists and read their headers.
+     *
+     * @param bh Blackhole to consume results.
+     */
+    @Benchmark
+    public void build(final Blackhole bh) {
+        for (DSList<String, List<String>, Map<String, String>> list : builder.build()) {
+            bh.consume(list);
+        }
+    }
+
+    /**
+     * Build DSLists and read parameters and variables of all datasets once.
+     *
+     * @param bh Blackhole to consume results.
+     */
+    @Benchmark
+    public void firstAccess(final Blackhole bh) {
+        readAll(builder.build(), bh::consume);
+    }
+
+    /**
+     * Read variables of all datasets of the already read DSLists.
+     *
+     * @param bh Blackhole to consume results.
+     */
+    @Benchmark
+    public void repeatedAccess(final Blackhole bh) {
+        for (DSList<String, List<String>, Map<String, String>> list : readLists) {
+            for (DS<String, Map<String, String>> ds : list.getDataSets()) {
+                bh.consume(ds.getVariables());
+            }
+        }
+    }
+
+    private static void readAll(final Iterable<DSList<String, List<String>, Map<String, String>>> lists,
+                                final Consumer<Object> sink) {
+        for (DSList<String, List<String>, Map<String, String>> list : lists) {
+            sink.accept(list.getParameters());
+            for (DS<String, Map<String, String>> ds : list.getDataSets()) {
+                sink.accept(ds.getVariables());
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.annotation.Nonnull;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * <pre>
+ * Generator of dataset workbooks of the given size.
+ * Each sheet has 'Entity' and 'Parameter' columns followed by dataset columns;
+ * each 10th parameter starts a new entity.
+ * Values are numeric and string ones in turn; in each block of 100 values the first (ratio * 100)
+ * ones are formulas, which refer to the parameter name of the same row.
+ * Formulas are evaluated before saving, so cached results are present in the file.
+ * </pre>
+ */
+public final class SyntheticWorkbook {
+
+    /**
+     * Number of parameters per entity.
+     */
+    private static final int PARAMS_PER_ENTITY = 10;
+
+    /**
+     * Granularity of the formula ratio.
+     */
+    private static final int RATIO_SCALE = 100;
+
+    private SyntheticWorkbook() {
+    }
+
+    /**
+     * Generate workbook and save it to a temporary file, which is deleted on exit.
+     *
+     * @param sheets number of sheets (dataset lists)
+     * @param params number of parameters per sheet
+     * @param dataSets number of datasets per sheet
+     * @param formulaRatio part of values which are formulas, from 0 to 1
+     * @return xlsx File generated.
+     * @throws IOException in case IO errors occurred.
+     */
+    @Nonnull
+    public static File generate(final int sheets, final int params, final int dataSets,
+                                final double formulaRatio) throws IOException {
+        File file = File.createTempFile(String.format("ds_%dx%dx%d_", sheets, params, dataSets), ".xlsx");
+        file.deleteOnExit();
+        int formulasPerScale = (int) Math.round(formulaRatio * RATIO_SCALE);
+        try (XSSFWorkbook wb = new XSSFWorkbook(); OutputStream out = new FileOutputStream(file)) {
+            for (int sheetIdx = 0; sheetIdx < sheets; sheetIdx++) {
+                fillSheet(wb.createSheet("DSL_" + sheetIdx), params, dataSets, formulasPerScale);
+            }
+            wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            wb.write(out);
+        }
+        return file;
+    }
+
+    private static void fillSheet(@Nonnull final Sheet sheet, final int params, final int dataSets,
+                                  final int formulasPerScale) {
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("Entity");
+        header.createCell(1).setCellValue("Parameter");
+        for (int dsIdx = 0; dsIdx < dataSets; dsIdx++) {
+            header.createCell(2 + dsIdx).setCellValue("DS_" + dsIdx);
+        }
+        for (int paramIdx = 0; paramIdx < params; paramIdx++) {
+            int rowIdx = paramIdx + 1;
+            Row row = sheet.createRow(rowIdx);
+            if (paramIdx % PARAMS_PER_ENTITY == 0) {
+                row.createCell(0).setCellValue("Entity_" + paramIdx / PARAMS_PER_ENTITY);
+            }
+            row.createCell(1).setCellValue("param_" + paramIdx);
+            String paramRef = new CellReference(rowIdx, 1).formatAsString();
+            for (int dsIdx = 0; dsIdx < dataSets; dsIdx++) {
+                int valueIdx = paramIdx * dataSets + dsIdx;
+                if (valueIdx % RATIO_SCALE < formulasPerScale) {
+                    row.createCell(2 + dsIdx).setCellFormula(paramRef + "&\"_" + dsIdx + "\"");
+                } else if (valueIdx % 2 == 0) {
+                    row.createCell(2 + dsIdx).setCellValue(valueIdx);
+                } else {
+                    row.createCell(2 + dsIdx).setCellValue("value_" + valueIdx);
+                }
+            }
+        }
+    }
+}
@@ -17,12 +17,14 @@
 
 package org.qubership.automation.configuration.dataset.excel.builder;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -37,11 +39,23 @@ public class DataSetBuilder {
      */
     final Supplier<Workbook> wb;
 
+    /**
+     * Xlsx file to read in streaming mode; null if the workbook supplier is used.
+     */
+    @Nullable
+    final File streamingSource;
+
     /**
      * Supplier of Sheet Predicates object.
      */
     Supplier<Predicate<Sheet>> selectedSheets;
 
+    /**
+     * Supplier of sheet name Predicates object; null if sheets are selected by custom predicate.
+     */
+    @Nullable
+    Supplier<Predicate<String>> selectedSheetNames;
+
     /**
      * Constructor.
      *
@@ -49,6 +63,27 @@ public class DataSetBuilder {
      */
     DataSetBuilder(@Nonnull final Supplier<Workbook> wb) {
         this.wb = wb;
+        this.streamingSource = null;
+    }
+
+    /**
+     * Constructor for streaming mode.
+     *
+     * @param streamingSource xlsx File to read.
+     */
+    DataSetBuilder(@Nonnull final File streamingSource) {
+        this.wb = new Supplier<Workbook>() {
+            @Override
+            public Workbook get() {
+                return null;
+            }
+
+            @Override
+            public String toString() {
+                return streamingSource.toString();
+            }
+        };
+        this.streamingSource = streamingSource;
     }
 
     /**
@@ -81,6 +116,20 @@ public class DataSetBuilder {
         });
     }
 
+    /**
+     * Create DataSetBuilder reading the xlsx file given in streaming mode.
+     * The workbook DOM is not built: sheets are parsed with SAX one by one and only cell values are kept.
+     * Formulas are not evaluated, cached results stored in the file are used instead;
+     * modification of variables is not supported.
+     * Sheets can be selected by names only.
+     *
+     * @param file xlsx File to read
+     * @return a new DataSetBuilder object created for the file.
+     */
+    public static DataSetBuilder createStreaming(@Nonnull final File file) {
+        return new DataSetBuilder(file);
+    }
+
     /**
      * Get SheetsDataSetBuilder for specified names;
      * will accept each name only ones.
@@ -100,7 +149,8 @@ public class DataSetBuilder {
      * @return SheetsDataSetBuilder object.
      */
     private SheetsDataSetBuilder forSheets(@Nonnull final Collection<String> names) {
-        return forSheets(new SheetByNameAccepter(names));
+        SheetByNameAccepter accepter = new SheetByNameAccepter(names);
+        return next(accepter, accepter::byName);
     }
 
     /**
@@ -109,7 +159,7 @@ public class DataSetBuilder {
      * @return SheetsDataSetBuilder object.
      */
     public SheetsDataSetBuilder forAllSheets() {
-        return forSheets(always -> true);
+        return next(() -> always -> true, () -> always -> true);
     }
 
     /**
@@ -129,11 +179,13 @@ public class DataSetBuilder {
      * @return SheetsDataSetBuilder object as next(stateful).
      */
     public SheetsDataSetBuilder forSheets(@Nonnull final Supplier<Predicate<Sheet>> stateful) {
-        return next(stateful);
+        return next(stateful, null);
     }
 
-    private SheetsDataSetBuilder next(@Nonnull final Supplier<Predicate<Sheet>> selectedSheets) {
+    private SheetsDataSetBuilder next(@Nonnull final Supplier<Predicate<Sheet>> selectedSheets,
+                                      @Nullable final Supplier<Predicate<String>> selectedSheetNames) {
         this.selectedSheets = selectedSheets;
+        this.selectedSheetNames = selectedSheetNames;
         return new SheetsDataSetBuilder(this);
     }
 
@@ -150,8 +202,13 @@ public class DataSetBuilder {
 
         @Override
         public Predicate<Sheet> get() {
+            final Predicate<String> byName = byName();
+            return sheet -> byName.test(sheet.getSheetName());
+        }
+
+        private Predicate<String> byName() {
             final Collection<String> namesCopy = Lists.newArrayList(names);
-            return sheet -> namesCopy.remove(sheet.getSheetName());
+            return namesCopy::remove;
         }
     }
 
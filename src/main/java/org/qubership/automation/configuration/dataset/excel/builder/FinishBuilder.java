@@ -17,17 +17,21 @@
 
 package org.qubership.automation.configuration.dataset.excel.builder;
 
+import java.io.File;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.qubership.automation.configuration.dataset.excel.builder.config.BaseConfig;
 import org.qubership.automation.configuration.dataset.excel.builder.config.DTBaseConfig;
+import org.qubership.automation.configuration.dataset.excel.builder.config.EvaluationOptions;
 import org.qubership.automation.configuration.dataset.excel.core.Adapter;
 import org.qubership.automation.configuration.dataset.excel.core.DS;
 import org.qubership.automation.configuration.dataset.excel.core.DSList;
@@ -35,6 +39,7 @@ import org.qubership.automation.configuration.dataset.excel.core.DSLists;
 import org.qubership.automation.configuration.dataset.excel.core.ParamsEntryConverter;
 import org.qubership.automation.configuration.dataset.excel.core.ReevaluateFormulas;
 import org.qubership.automation.configuration.dataset.excel.core.VarsEntryConverter;
+import org.qubership.automation.configuration.dataset.excel.core.VarsEntryModificator;
 import org.qubership.automation.configuration.dataset.excel.impl.DSCell;
 
 /**
@@ -48,11 +53,23 @@ public class FinishBuilder<Param, Params, Var, Vars> {
      */
     final Supplier<Workbook> workbook;
 
+    /**
+     * Xlsx file to read in streaming mode; null if the workbook supplier is used.
+     */
+    @Nullable
+    final File streamingSource;
+
     /**
      * Supplier of Sheet Predicates.
      */
     final Supplier<Predicate<Sheet>> sheets;
 
+    /**
+     * Supplier of sheet name Predicates; null if sheets are selected by custom predicate.
+     */
+    @Nullable
+    final Supplier<Predicate<String>> sheetNames;
+
     /**
      * Supplier of DSCell Predicates.
      */
@@ -83,11 +100,18 @@ public class FinishBuilder<Param, Params, Var, Vars> {
      */
     final ReevaluateFormulas evalStrat;
 
+    /**
+     * Options of formulas evaluation.
+     */
+    final EvaluationOptions evaluation;
+
     /**
      * Constructor.
      *
      * @param workbook Workbook Supplier object
+     * @param streamingSource xlsx File to read in streaming mode; null if the workbook supplier is used
      * @param sheets Supplier of Sheet Predicates
+     * @param sheetNames Supplier of sheet name Predicates; null if sheets are selected by custom predicate
      * @param columns Supplier of DSCell Predicates
      * @param paramsConverter Supplier of Param Functions
      * @param valuesConverter Supplier of Var Functions
@@ -96,15 +120,50 @@ public class FinishBuilder<Param, Params, Var, Vars> {
      * @param evalStrat Variant of Formulas Re-evaluation.
      */
     FinishBuilder(@Nonnull final Supplier<Workbook> workbook,
+                  @Nullable final File streamingSource,
                   @Nonnull final Supplier<Predicate<Sheet>> sheets,
+                  @Nullable final Supplier<Predicate<String>> sheetNames,
                   @Nonnull final Supplier<Predicate<DSCell>> columns,
                   @Nonnull final Supplier<Function<Iterator<Param>, Params>> paramsConverter,
                   @Nonnull final Supplier<Function<Iterator<Var>, Vars>> valuesConverter,
                   @Nonnull final Supplier<ParamsEntryConverter<Param>> paramEntryConverter,
                   @Nonnull final Supplier<VarsEntryConverter<Param, Var>> varEntryConverter,
                   @Nonnull final ReevaluateFormulas evalStrat) {
+        this(workbook, streamingSource, sheets, sheetNames, columns, paramsConverter, valuesConverter,
+                paramEntryConverter, varEntryConverter, evalStrat, EvaluationOptions.DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param workbook Workbook Supplier object
+     * @param streamingSource xlsx File to read in streaming mode; null if the workbook supplier is used
+     * @param sheets Supplier of Sheet Predicates
+     * @param sheetNames Supplier of sheet name Predicates; null if sheets are selected by custom predicate
+     * @param columns Supplier of DSCell Predicates
+     * @param paramsConverter Supplier of Param Functions
+     * @param valuesConverter Supplier of Var Functions
+     * @param paramEntryConverter Supplier of ParamsEntryConverter
+     * @param varEntryConverter Supplier of VarsEntryConverter
+     * @param evalStrat Variant of Formulas Re-evaluation
+     * @param evaluation EvaluationOptions of formulas evaluation.
+     */
+    FinishBuilder(@Nonnull final Supplier<Workbook> workbook,
+                  @Nullable final File streamingSource,
+                  @Nonnull final Supplier<Predicate<Sheet>> sheets,
+                  @Nullable final Supplier<Predicate<String>> sheetNames,
+                  @Nonnull final Supplier<Predicate<DSCell>> columns,
+                  @Nonnull final Supplier<Function<Iterator<Param>, Params>> paramsConverter,
+                  @Nonnull final Supplier<Function<Iterator<Var>, Vars>> valuesConverter,
+                  @Nonnull final Supplier<ParamsEntryConverter<Param>> paramEntryConverter,
+                  @Nonnull final Supplier<VarsEntryConverter<Param, Var>> varEntryConverter,
+                  @Nonnull final ReevaluateFormulas evalStrat,
+                  @Nonnull final EvaluationOptions evaluation) {
+        this.evaluation = evaluation;
         this.workbook = workbook;
+        this.streamingSource = streamingSource;
         this.sheets = sheets;
+        this.sheetNames = sheetNames;
         this.columns = columns;
         this.paramsConverter = paramsConverter;
         this.valuesConverter = valuesConverter;
@@ -113,6 +172,35 @@ public class FinishBuilder<Param, Params, Var, Vars> {
         this.evalStrat = evalStrat;
     }
 
+    /**
+     * Evaluate formulas concurrently: each evaluation borrows an evaluator from a pool owned by the workbook context,
+     * so {@link DS#getVariables()} of different datasets proceed in parallel.
+     * Results are not written to cells of the workbook.
+     * Has no effect for workbooks with external links and for {@link ReevaluateFormulas#NEVER} strategy.
+     *
+     * @return new FinishBuilder with the same settings and concurrent evaluation of formulas.
+     */
+    public FinishBuilder<Param, Params, Var, Vars> concurrentEvaluation() {
+        return new FinishBuilder<>(workbook, streamingSource, sheets, sheetNames, columns, paramsConverter,
+                valuesConverter, paramEntryConverter, varEntryConverter, evalStrat, evaluation.withConcurrent());
+    }
+
+    /**
+     * Evaluate modifications of variables by {@link DS#getVariables(VarsEntryModificator)} as an overlay:
+     * new values are not written to cells of the workbook,
+     * formulas are evaluated by an evaluator forked from the workbook which consults them.
+     * So modifications of the same workbook are evaluated in parallel, without blocking other reads.
+     * Implies {@link #concurrentEvaluation()}. Modifications which replace formulas or do more than replace values
+     * are applied to the workbook and reverted exclusively, as without this option.
+     * Has no effect for workbooks with external links.
+     *
+     * @return new FinishBuilder with the same settings and overlay evaluation of modifications.
+     */
+    public FinishBuilder<Param, Params, Var, Vars> overlayEvaluation() {
+        return new FinishBuilder<>(workbook, streamingSource, sheets, sheetNames, columns, paramsConverter,
+                valuesConverter, paramEntryConverter, varEntryConverter, evalStrat, evaluation.withOverlay());
+    }
+
     /**
      * Create DSList Iterator.
      *
@@ -128,15 +216,63 @@ public class FinishBuilder<Param, Params, Var, Vars> {
      * @return new DSLists object.
      */
     public DSLists<Param, Params, Vars> build() {
+        if (streamingSource != null) {
+            return buildStreaming(streamingSource);
+        }
+        return doConfig().build();
+    }
+
+    /**
+     * Create DSLists; on each iteration DSLists of sheets are formed concurrently using the executor given:
+     * parameters and datasets of all sheets are read before the iterator is returned.
+     * Sheets are returned in the same order as by {@link #build()}.
+     * Each sheet is formed with its own columns predicate and converters taken from the suppliers.
+     * In streaming mode the executor is not used, sheets are read one by one.
+     *
+     * @param executor Executor to form DSLists of sheets
+     * @return new DSLists object.
+     */
+    public DSLists<Param, Params, Vars> buildParallel(@Nonnull final Executor executor) {
+        if (streamingSource != null) {
+            return buildStreaming(streamingSource);
+        }
+        DTBaseConfig<Param, Params, Var, Vars> config = doConfig();
+        return config.build(executor, () -> doConfig(config.config.wb, config.config.sheetsPred));
+    }
+
+    private DTBaseConfig<Param, Params, Var, Vars> doConfig() {
+        return doConfig(workbook.get(), sheets.get());
+    }
+
+    private DTBaseConfig<Param, Params, Var, Vars> doConfig(@Nonnull final Workbook wb,
+                                                           @Nonnull final Predicate<Sheet> sheetsPred) {
+        BaseConfig<Param, Params, Var, Vars> config = new BaseConfig<>(workbook.toString(),
+                wb,
+                sheetsPred,
+                columns.get(),
+                paramsConverter.get(),
+                varEntryConverter,
+                valuesConverter,
+                evalStrat,
+                evaluation);
+        return new DTBaseConfig<>(config, paramEntryConverter.get(), varEntryConverter.get());
+    }
+
+    private DSLists<Param, Params, Vars> buildStreaming(@Nonnull final File file) {
+        if (sheetNames == null) {
+            throw new IllegalStateException("Only selection of sheets by names is supported in streaming mode");
+        }
+        Predicate<String> names = sheetNames.get();
         BaseConfig<Param, Params, Var, Vars> config = new BaseConfig<>(workbook.toString(),
-                workbook.get(),
-                sheets.get(),
+                null,
+                sheet -> names.test(sheet.getSheetName()),
                 columns.get(),
                 paramsConverter.get(),
                 varEntryConverter,
                 valuesConverter,
                 evalStrat);
-        return (new DTBaseConfig<>(config, paramEntryConverter.get(), varEntryConverter.get())).build();
+        return (new DTBaseConfig<>(config, paramEntryConverter.get(), varEntryConverter.get()))
+                .buildStreaming(file, names);
     }
 
     /**
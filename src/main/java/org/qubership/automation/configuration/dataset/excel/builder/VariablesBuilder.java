@@ -168,8 +168,11 @@ public class VariablesBuilder<Param, Params> {
             @Nonnull final Supplier<VarsEntryConverter<Param, Var>> varEntryConverter,
             @Nonnull final Supplier<Function<Iterator<Var>, Vars>> varsConverter,
             @Nonnull final ReevaluateFormulas strategy) {
-        return new FinishBuilder<>(parent.parent.parent.wb,
-                parent.parent.parent.selectedSheets,
+        DataSetBuilder dataSetBuilder = parent.parent.parent;
+        return new FinishBuilder<>(dataSetBuilder.wb,
+                dataSetBuilder.streamingSource,
+                dataSetBuilder.selectedSheets,
+                dataSetBuilder.selectedSheetNames,
                 parent.parent.columns,
                 paramsConverter,
                 varsConverter,
@@ -23,6 +23,7 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -41,8 +42,9 @@ public class BaseConfig<Param, Params, Var, Vars> {
     public final String sourceQualifier;
 
     /**
-     * Workbook object.
+     * Workbook object; null for sources read in streaming mode.
      */
+    @Nullable
     public final Workbook wb; // for synchronize/locking purposes
 
     /**
@@ -75,11 +77,16 @@ public class BaseConfig<Param, Params, Var, Vars> {
      */
     public final Predicate<Sheet> sheetsPred;
 
+    /**
+     * Options of formulas evaluation.
+     */
+    public final EvaluationOptions evaluation;
+
     /**
      * Constructor.
      *
      * @param sourceQualifier String qualifier of the source
-     * @param wb Workbook object
+     * @param wb Workbook object; null for sources read in streaming mode
      * @param sheetsPred Predicate of Sheets
      * @param columnsPred Predicate of DSCells
      * @param paramsConverter Function to convert Params
@@ -88,13 +95,40 @@ public class BaseConfig<Param, Params, Var, Vars> {
      * @param evalStrategy Strategy of formulas re-evaluation.
      */
     public BaseConfig(@Nonnull final String sourceQualifier,
-                      @Nonnull final Workbook wb,
+                      @Nullable final Workbook wb,
                       @Nonnull final Predicate<Sheet> sheetsPred,
                       @Nonnull final Predicate<DSCell> columnsPred,
                       @Nonnull final Function<Iterator<Param>, Params> paramsConverter,
                       @Nonnull final Supplier<VarsEntryConverter<Param, Var>> varConverter,
                       @Nonnull final Supplier<Function<Iterator<Var>, Vars>> varsConverter,
                       @Nonnull final ReevaluateFormulas evalStrategy) {
+        this(sourceQualifier, wb, sheetsPred, columnsPred, paramsConverter, varConverter, varsConverter, evalStrategy,
+                EvaluationOptions.DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param sourceQualifier String qualifier of the source
+     * @param wb Workbook object; null for sources read in streaming mode
+     * @param sheetsPred Predicate of Sheets
+     * @param columnsPred Predicate of DSCells
+     * @param paramsConverter Function to convert Params
+     * @param varConverter Supplier of VarsEntryConverters
+     * @param varsConverter Supplier of Functions
+     * @param evalStrategy Strategy of formulas re-evaluation
+     * @param evaluation EvaluationOptions of formulas evaluation.
+     */
+    public BaseConfig(@Nonnull final String sourceQualifier,
+                      @Nullable final Workbook wb,
+                      @Nonnull final Predicate<Sheet> sheetsPred,
+                      @Nonnull final Predicate<DSCell> columnsPred,
+                      @Nonnull final Function<Iterator<Param>, Params> paramsConverter,
+                      @Nonnull final Supplier<VarsEntryConverter<Param, Var>> varConverter,
+                      @Nonnull final Supplier<Function<Iterator<Var>, Vars>> varsConverter,
+                      @Nonnull final ReevaluateFormulas evalStrategy,
+                      @Nonnull final EvaluationOptions evaluation) {
+        this.evaluation = evaluation;
         this.sourceQualifier = sourceQualifier;
         this.wb = wb;
         this.evalStrategy = evalStrategy;
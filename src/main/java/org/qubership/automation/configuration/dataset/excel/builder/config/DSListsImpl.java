@@ -18,9 +18,14 @@
 package org.qubership.automation.configuration.dataset.excel.builder.config;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -32,8 +37,11 @@ import org.qubership.automation.configuration.dataset.excel.impl.DSFormer;
 import org.qubership.automation.configuration.dataset.excel.impl.EvaluationContext;
 import org.qubership.automation.configuration.dataset.excel.impl.Utils;
 
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 
 /**
  * This iterable makes possible to modify base config properties before use.
@@ -50,6 +58,18 @@ public class DSListsImpl<Param, Params, Var, Vars> implements DSLists<Param, Par
      */
     private final Supplier<EvaluationContext> contextSup;
 
+    /**
+     * Executor to form DSLists of sheets concurrently; null for serial forming.
+     */
+    @Nullable
+    private final Executor executor;
+
+    /**
+     * Supplier of DTBaseConfig for each sheet task of concurrent forming; null for serial forming.
+     */
+    @Nullable
+    private final Supplier<DTBaseConfig<Param, Params, Var, Vars>> taskConfig;
+
     /**
      * EvaluationContext object.
      */
@@ -61,20 +81,48 @@ public class DSListsImpl<Param, Params, Var, Vars> implements DSLists<Param, Par
      * @param baseConfig DTBaseConfig object.
      */
     public DSListsImpl(@Nonnull final DTBaseConfig<Param, Params, Var, Vars> baseConfig) {
+        this(baseConfig, null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param baseConfig DTBaseConfig object
+     * @param executor Executor to form DSLists of sheets concurrently; null for serial forming
+     * @param taskConfig Supplier of DTBaseConfig with own columns predicate and converters for each sheet task;
+     *                   null for serial forming.
+     */
+    public DSListsImpl(@Nonnull final DTBaseConfig<Param, Params, Var, Vars> baseConfig,
+                       @Nullable final Executor executor,
+                       @Nullable final Supplier<DTBaseConfig<Param, Params, Var, Vars>> taskConfig) {
+        Preconditions.checkArgument((executor == null) == (taskConfig == null),
+                "Executor and task config are required for concurrent forming both");
         this.baseConfig = baseConfig;
+        this.executor = executor;
+        this.taskConfig = taskConfig;
         final Workbook wb = baseConfig.config.wb;
         final ReevaluateFormulas strategy = baseConfig.config.evalStrategy;
-        Supplier<EvaluationContext> contextSup = () -> new EvaluationContext(wb, strategy);
+        final boolean concurrent = baseConfig.config.evaluation.isConcurrent();
+        final boolean overlay = baseConfig.config.evaluation.isOverlay();
+        Supplier<EvaluationContext> contextSup = () -> new EvaluationContext(wb, strategy, concurrent, overlay);
         if (!strategy.reevaluateHeaders) {
             contextSup = Utils.memoize(contextSup);
         }
         this.contextSup = contextSup;
     }
 
-    private AbstractDSFormer<Param, Params, Var, Vars> doDSFormer(@Nonnull final Sheet sheet) {
-        return new DSFormer<>(sheet, baseConfig.config,
-                baseConfig.paramsEntryConverter, baseConfig.varsEntryConverter,
-                evaluationContext);
+    private AbstractDSFormer<Param, Params, Var, Vars> doDSFormer(@Nonnull final Sheet sheet,
+                                                                  @Nonnull final EvaluationContext context) {
+        return doDSFormer(sheet, baseConfig, context);
+    }
+
+    private static <Param, Params, Var, Vars> AbstractDSFormer<Param, Params, Var, Vars> doDSFormer(
+            @Nonnull final Sheet sheet,
+            @Nonnull final DTBaseConfig<Param, Params, Var, Vars> config,
+            @Nonnull final EvaluationContext context) {
+        return new DSFormer<>(sheet, config.config,
+                config.paramsEntryConverter, config.varsEntryConverter,
+                context);
     }
 
     /**
@@ -104,20 +152,70 @@ public class DSListsImpl<Param, Params, Var, Vars> implements DSLists<Param, Par
      */
     @Override
     public Iterator<DSList<Param, Params, Vars>> iterator() {
-        this.evaluationContext = contextSup.get();
+        final EvaluationContext context = contextSup.get();
+        this.evaluationContext = context;
         final Iterator<Sheet> sheets = sheets();
+        if (executor != null) {
+            return formConcurrently(sheets, context, executor, taskConfig);
+        }
         return new AbstractIterator<DSList<Param, Params, Vars>>() {
             @Override
             protected DSList<Param, Params, Vars> computeNext() {
                 DSList<Param, Params, Vars> next = null;
                 while (sheets.hasNext() && next == null) {
-                    next = doDSFormer(sheets.next()).get();
+                    next = doDSFormer(sheets.next(), context).get();
                 }
                 return next == null ? endOfData() : next;
             }
         };
     }
 
+    /**
+     * Form DSLists of all sheets concurrently: header, parameters and datasets of each sheet
+     * are read by a separate task. Sheets are selected on the calling thread, since sheets predicate may be stateful;
+     * for the same reason each task gets its own columns predicate and converters from the task config supplier.
+     * Formulas evaluation is synchronized on the shared EvaluationContext,
+     * so results are the same as for serial forming.
+     *
+     * @param sheets Sheets iterator
+     * @param context EvaluationContext object
+     * @param executor Executor to run tasks
+     * @param taskConfig Supplier of DTBaseConfig for each task
+     * @return iterator of formed DSLists in the order of sheets.
+     */
+    private Iterator<DSList<Param, Params, Vars>> formConcurrently(
+            @Nonnull final Iterator<Sheet> sheets,
+            @Nonnull final EvaluationContext context,
+            @Nonnull final Executor executor,
+            @Nonnull final Supplier<DTBaseConfig<Param, Params, Var, Vars>> taskConfig) {
+        List<CompletableFuture<DSList<Param, Params, Vars>>> tasks = Lists.newArrayList();
+        while (sheets.hasNext()) {
+            final Sheet sheet = sheets.next();
+            tasks.add(CompletableFuture.supplyAsync(() -> {
+                DSList<Param, Params, Vars> list = doDSFormer(sheet, taskConfig.get(), context).get();
+                if (list != null) {
+                    list.getParameters();
+                    list.getDataSets();
+                }
+                return list;
+            }, executor));
+        }
+        List<DSList<Param, Params, Vars>> result = Lists.newArrayListWithCapacity(tasks.size());
+        for (CompletableFuture<DSList<Param, Params, Vars>> task : tasks) {
+            DSList<Param, Params, Vars> list;
+            try {
+                list = task.join();
+            } catch (CompletionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw e;
+            }
+            if (list != null) {
+                result.add(list);
+            }
+        }
+        return result.iterator();
+    }
+
     private Iterator<Sheet> sheets() {
         return Iterators.filter(baseConfig.config.wb.sheetIterator(),
                 baseConfig.config.sheetsPred::test);
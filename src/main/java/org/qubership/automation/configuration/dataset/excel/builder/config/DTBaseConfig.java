@@ -17,6 +17,11 @@
 
 package org.qubership.automation.configuration.dataset.excel.builder.config;
 
+import java.io.File;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
 import javax.annotation.Nonnull;
 
 import org.qubership.automation.configuration.dataset.excel.core.DSLists;
@@ -64,4 +69,33 @@ public class DTBaseConfig<Param, Params, Var, Vars> {
     public DSLists<Param, Params, Vars> build() {
         return new DSListsImpl<>(this);
     }
+
+    /**
+     * Build DSLists; DSLists of sheets are formed concurrently using the executor given.
+     * Columns predicates and converters may be stateful, so each sheet task is formed
+     * with its own DTBaseConfig taken from the supplier; it must have the same workbook as this one.
+     *
+     * @param executor Executor to form DSLists of sheets
+     * @param taskConfig Supplier of DTBaseConfig for each sheet task
+     * @return new DSListsImpl object.
+     */
+    @Nonnull
+    public DSLists<Param, Params, Vars> build(
+            @Nonnull final Executor executor,
+            @Nonnull final Supplier<DTBaseConfig<Param, Params, Var, Vars>> taskConfig) {
+        return new DSListsImpl<>(this, executor, taskConfig);
+    }
+
+    /**
+     * Build DSLists read from the xlsx file in streaming mode.
+     *
+     * @param file xlsx File to read
+     * @param sheetNames Predicate of sheet names
+     * @return new StreamingDSListsImpl object.
+     */
+    @Nonnull
+    public DSLists<Param, Params, Vars> buildStreaming(@Nonnull final File file,
+                                                       @Nonnull final Predicate<String> sheetNames) {
+        return new StreamingDSListsImpl<>(this, file, sheetNames);
+    }
 }
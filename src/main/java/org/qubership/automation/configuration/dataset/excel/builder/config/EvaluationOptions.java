@@ -0,0 +1,97 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.builder.config;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Immutable options of formulas evaluation of the workbook context,
+ * see {@link org.qubership.automation.configuration.dataset.excel.impl.EvaluationContext}.
+ */
+public final class EvaluationOptions {
+
+    /**
+     * Default options: formulas are evaluated exclusively, modifications of cells are applied to the workbook.
+     */
+    public static final EvaluationOptions DEFAULT = new EvaluationOptions(false, false);
+
+    /**
+     * Flag if formulas are evaluated concurrently,
+     * see {@link org.qubership.automation.configuration.dataset.excel.impl.EvaluationContext#isConcurrent()}.
+     */
+    private final boolean concurrent;
+
+    /**
+     * Flag if modifications of cells are evaluated as an overlay,
+     * see {@link org.qubership.automation.configuration.dataset.excel.impl.EvaluationContext#isOverlay()}.
+     */
+    private final boolean overlay;
+
+    private EvaluationOptions(final boolean concurrent, final boolean overlay) {
+        this.concurrent = concurrent;
+        this.overlay = overlay;
+    }
+
+    /**
+     * Check if formulas are evaluated concurrently.
+     *
+     * @return true/false.
+     */
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    /**
+     * Check if modifications of cells are evaluated as an overlay.
+     *
+     * @return true/false.
+     */
+    public boolean isOverlay() {
+        return overlay;
+    }
+
+    /**
+     * Make options with concurrent evaluation of formulas.
+     *
+     * @return new EvaluationOptions with the same settings and concurrent evaluation.
+     */
+    @Nonnull
+    public EvaluationOptions withConcurrent() {
+        return new EvaluationOptions(true, overlay);
+    }
+
+    /**
+     * Make options with overlay evaluation of modifications of cells.
+     *
+     * @return new EvaluationOptions with the same settings and overlay evaluation.
+     */
+    @Nonnull
+    public EvaluationOptions withOverlay() {
+        return new EvaluationOptions(concurrent, true);
+    }
+
+    /**
+     * Make String representation of the object.
+     *
+     * @return String representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "EvaluationOptions[concurrent=" + concurrent + ", overlay=" + overlay + "]";
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.builder.config;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.qubership.automation.configuration.dataset.excel.core.DSList;
+import org.qubership.automation.configuration.dataset.excel.core.DSLists;
+import org.qubership.automation.configuration.dataset.excel.impl.DSCell;
+import org.qubership.automation.configuration.dataset.excel.impl.DSFormer;
+import org.qubership.automation.configuration.dataset.excel.impl.EvaluationContext;
+import org.qubership.automation.configuration.dataset.excel.impl.morphcells.PropertyDescriptors;
+import org.qubership.automation.configuration.dataset.excel.impl.streaming.StreamingSheet;
+import org.qubership.automation.configuration.dataset.excel.impl.streaming.StreamingWorkbook;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * <pre>
+ * DSLists read from the xlsx file with {@link StreamingWorkbook}, without building the workbook DOM.
+ * The file is read once, on the first access: rows of selected sheets are parsed while DSLists are formed,
+ * sheet by sheet, then the file is closed, so only values of the cells are kept in memory.
+ * Formulas are not evaluated: cached results stored in the file are used instead,
+ * and modification of variables is not supported.
+ * Cells of columns which are not selected are skipped while sheets are parsed.
+ * </pre>
+ */
+public class StreamingDSListsImpl<Param, Params, Var, Vars> implements DSLists<Param, Params, Vars> {
+
+    /**
+     * DTBaseConfig object.
+     */
+    public final DTBaseConfig<Param, Params, Var, Vars> baseConfig;
+
+    /**
+     * Xlsx file to read.
+     */
+    private final File file;
+
+    /**
+     * Predicate of sheet names.
+     */
+    private final Predicate<String> sheetNames;
+
+    /**
+     * EvaluationContext object; null until the file is read.
+     */
+    private volatile EvaluationContext evaluationContext;
+
+    /**
+     * DSLists read from the file; null until the file is read.
+     */
+    private volatile List<DSList<Param, Params, Vars>> lists;
+
+    /**
+     * Constructor.
+     *
+     * @param baseConfig DTBaseConfig object
+     * @param file xlsx File to read
+     * @param sheetNames Predicate of sheet names.
+     */
+    public StreamingDSListsImpl(@Nonnull final DTBaseConfig<Param, Params, Var, Vars> baseConfig,
+                                @Nonnull final File file,
+                                @Nonnull final Predicate<String> sheetNames) {
+        this.baseConfig = baseConfig;
+        this.file = file;
+        this.sheetNames = sheetNames;
+    }
+
+    /**
+     * Get config.
+     *
+     * @return BaseConfig object.
+     */
+    @Override
+    public BaseConfig<Param, Params, ?, Vars> getConfig() {
+        return baseConfig.config;
+    }
+
+    /**
+     * Get evaluationContext. The file is read if it is not yet.
+     *
+     * @return EvaluationContext object.
+     */
+    @Override
+    public EvaluationContext getEvaluationContext() {
+        read();
+        return this.evaluationContext;
+    }
+
+    /**
+     * Get DSList iterator. The file is read on the first call, then the same DSLists are returned.
+     *
+     * @return DSList iterator.
+     */
+    @Override
+    public Iterator<DSList<Param, Params, Vars>> iterator() {
+        read();
+        return lists.iterator();
+    }
+
+    private void read() {
+        if (lists != null) {
+            return;
+        }
+        synchronized (this) {
+            if (lists == null) {
+                lists = doRead();
+            }
+        }
+    }
+
+    @Nonnull
+    private List<DSList<Param, Params, Vars>> doRead() {
+        List<DSList<Param, Params, Vars>> result = Lists.newArrayList();
+        try (StreamingWorkbook workbook = new StreamingWorkbook(file)) {
+            EvaluationContext context = new EvaluationContext(
+                    PropertyDescriptors.get(workbook.isStartDate1904()), baseConfig.config.evalStrategy);
+            this.evaluationContext = context;
+            BaseConfig<Param, Params, Var, Vars> config = selectOnce(baseConfig.config);
+            Iterator<StreamingSheet> sheets = workbook.sheetIterator(sheetNames,
+                    DSFormer.headerPredicate(config.columnsPred, context));
+            while (sheets.hasNext()) {
+                StreamingSheet sheet = sheets.next();
+                try {
+                    DSList<Param, Params, Vars> next = new DSFormer<>(sheet.getName(), sheet.rowIterator(),
+                            config, baseConfig.paramsEntryConverter, baseConfig.varsEntryConverter,
+                            context).get();
+                    if (next != null) {
+                        // rows are read while the file is open
+                        next.getParameters();
+                        result.add(next);
+                    }
+                } finally {
+                    // rows of a sheet without datasets are not read, so its parser is stopped
+                    sheet.close();
+                }
+            }
+        } catch (Exception e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(String.format("Can not read file [%s]", file), e);
+        }
+        return ImmutableList.copyOf(result);
+    }
+
+    /**
+     * Make config which tests each header cell by the columns predicate only once:
+     * header cells are tested by parser threads while sheets are parsed, then the results are reused by formers
+     * in the reading thread, so stateful predicates are not affected.
+     *
+     * @param config BaseConfig object
+     * @return new BaseConfig object.
+     */
+    @Nonnull
+    private static <Param, Params, Var, Vars> BaseConfig<Param, Params, Var, Vars> selectOnce(
+            @Nonnull final BaseConfig<Param, Params, Var, Vars> config) {
+        Map<Cell, Boolean> selected = Collections.synchronizedMap(Maps.newIdentityHashMap());
+        Predicate<DSCell> columnsPred = header -> selected.computeIfAbsent(header.getCell(),
+                cell -> config.columnsPred.test(header));
+        return new BaseConfig<>(config.sourceQualifier, config.wb, config.sheetsPred, columnsPred,
+                config.paramsConverter, config.varConverter, config.varsConverter, config.evalStrategy,
+                config.evaluation);
+    }
+
+    /**
+     * Make String representation of the object.
+     *
+     * @return String representation of the object.
+     */
+    @Override
+    public String toString() {
+        return baseConfig.config.sourceQualifier;
+    }
+}
@@ -17,8 +17,12 @@
 
 package org.qubership.automation.configuration.dataset.excel.core;
 
+import java.util.List;
+
 import javax.annotation.Nonnull;
 
+import com.google.common.collect.Lists;
+
 public interface DS<Param, Vars> extends Named {
 
     /**
@@ -29,7 +33,8 @@ public interface DS<Param, Vars> extends Named {
     Vars getVariables();
 
     /**
-     * Get variables; works only with {@link ReevaluateFormulas#IN_CONVERTER} strategy.
+     * Get variables; works only with {@link ReevaluateFormulas#IN_CONVERTER},
+     * {@link ReevaluateFormulas#ON_CELL_CHANGE} and {@link ReevaluateFormulas#CACHED} strategies.
      *
      * @param modificator did modifications of value cells of each variable entry;
      *                    these modifications are temporarily, just for returned vars
@@ -37,4 +42,23 @@ public interface DS<Param, Vars> extends Named {
      * @throws IllegalArgumentException if reevaluate formulas strategy is wrong.
      */
     Vars getVariables(@Nonnull VarsEntryModificator<Param> modificator);
+
+    /**
+     * Get variables for each of modificators; works with the same strategies as
+     * {@link #getVariables(VarsEntryModificator)}.
+     * The same as invoking {@link #getVariables(VarsEntryModificator)} for each of modificators,
+     * but implementations may lock the evaluation context once for all of them.
+     *
+     * @param modificators modificators of value cells, see {@link #getVariables(VarsEntryModificator)}
+     * @return List of Vars objects, one per modificator in the same order
+     * @throws IllegalArgumentException if reevaluate formulas strategy is wrong.
+     */
+    default List<Vars> getVariablesBatch(
+            @Nonnull final Iterable<? extends VarsEntryModificator<Param>> modificators) {
+        List<Vars> result = Lists.newArrayList();
+        for (VarsEntryModificator<Param> modificator : modificators) {
+            result.add(getVariables(modificator));
+        }
+        return result;
+    }
 }
@@ -27,7 +27,7 @@ public interface DSList<Param, Params, Vars> extends Named {
     /**
      * Get Set of datasets.
      *
-     * @return Set of DS objects.
+     * @return Set of DS objects, in the order of dataset columns.
      */
     @Nonnull
     Set<DS<Param, Vars>> getDataSets();
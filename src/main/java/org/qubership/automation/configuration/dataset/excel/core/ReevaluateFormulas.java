@@ -24,7 +24,16 @@ public enum ReevaluateFormulas {
     /**
      * Enum value to <b>never</b> evaluate formulas.
      */
-    NEVER(false, false, false, false),
+    NEVER(false, false, false, false, false, false, false),
+
+    /**<pre>
+     * the same as {@link #NEVER}, but each value is formatted once, on the first read, and then kept:
+     * {@link DSCell#getStringValue()} and {@link DSCell#getValue()} of variables return the same String,
+     * so repeated {@link DS#getVariables()} calls only read memory.
+     * Cells should not be changed after that
+     * </pre>
+     */
+    ONCE(false, false, false, false, false, false, true),
 
     /**<pre>
      * used when {@link DSCell#getValue()} is return param of {@link VarsEntryConverter}
@@ -34,7 +43,7 @@ public enum ReevaluateFormulas {
      * so all the following operations with variables should be atomic and synchronized
      * </pre>
      */
-    ON_DS_ACCESS(false, true, false, true),
+    ON_DS_ACCESS(false, true, false, true, false, false, false),
 
     /**<pre>
      * used when {@link VarsEntryConverter} caches the {@link DSCell#getValue()}
@@ -44,17 +53,42 @@ public enum ReevaluateFormulas {
      * and reuses {@link VarsEntryConverter} to be able to cache new evaluation results
      * </pre>
      */
-    IN_CONVERTER(false, true, true, true),
+    IN_CONVERTER(false, true, true, true, false, false, false),
+
+    /**<pre>
+     * the same as {@link #IN_CONVERTER}, but evaluation context is not cleaned on {@link DS#getVariables()} call:
+     * formula results are cached and only results depending on cells changed by
+     * {@link DS#getVariables(VarsEntryModificator)} are re-evaluated
+     * </pre>
+     */
+    ON_CELL_CHANGE(false, false, true, true, true, false, false),
+
+    /**<pre>
+     * trusts results of formulas cached in the file: they are returned without evaluation,
+     * so formula evaluator is not created at all while variables are got without modifications.
+     * Formulas are evaluated only if the cell has no cached result, contains volatile function (like NOW())
+     * or is listed as volatile, or cells are modified by {@link DS#getVariables(VarsEntryModificator)};
+     * in the last case results depending on changed cells are re-evaluated as for {@link #ON_CELL_CHANGE}.
+     * Evaluation results are not written to cells, so cached results are kept intact.
+     *
+     * intended for files saved by applications which evaluate formulas (like Excel):
+     * formulas of workbooks created in memory have zero results until evaluated
+     * </pre>
+     */
+    CACHED(false, false, true, false, true, true, false),
 
     /**
      * Enum value to <b>always</b> evaluate formulas.
      */
-    ALWAYS(true, false, true, true);
+    ALWAYS(true, false, true, true, false, false, false);
 
     public final boolean evaluationContextCleanup;
     public final boolean onDsCleanup;
     public final boolean reuseConverters;
     public final boolean reevaluateHeaders;
+    public final boolean notifyCellChanges;
+    public final boolean useCachedResults;
+    public final boolean materializeValues;
 
     /**
      * Constructor.
@@ -62,16 +96,27 @@ public enum ReevaluateFormulas {
      * @param evaluationContextCleanup boolean flag to clean up context before evaluation or not
      * @param onDsCleanup boolean flag to clean up context on DS change or not
      * @param reuseConverters boolean flag reuse converters or not
-     * @param reevaluateHeaders boolean flag re-evaluate headers or not.
+     * @param reevaluateHeaders boolean flag re-evaluate headers or not
+     * @param notifyCellChanges boolean flag to invalidate results depending on changed cells only
+     *                          instead of clean up of context
+     * @param useCachedResults boolean flag to return cached results of formulas instead of evaluation
+     *                         where they are up to date
+     * @param materializeValues boolean flag to format values of variables once and keep them.
      */
     ReevaluateFormulas(final boolean evaluationContextCleanup,
                        final boolean onDsCleanup,
                        final boolean reuseConverters,
-                       final boolean reevaluateHeaders) {
+                       final boolean reevaluateHeaders,
+                       final boolean notifyCellChanges,
+                       final boolean useCachedResults,
+                       final boolean materializeValues) {
         this.evaluationContextCleanup = evaluationContextCleanup;
         this.onDsCleanup = onDsCleanup;
         this.reuseConverters = reuseConverters;
         this.reevaluateHeaders = reevaluateHeaders;
+        this.notifyCellChanges = notifyCellChanges;
+        this.useCachedResults = useCachedResults;
+        this.materializeValues = materializeValues;
     }
 
 }
@@ -21,8 +21,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -39,8 +39,8 @@ import org.qubership.automation.configuration.dataset.excel.core.DSList;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.AbstractIterator;
-import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 public abstract class AbstractDSFormer<Param, Params, Var, Vars>
         implements ColumnHandler, Supplier<DSList<Param, Params, Vars>> {
@@ -61,10 +61,16 @@ public abstract class AbstractDSFormer<Param, Params, Var, Vars>
     protected final Predicate<Cell> columnsPred;
 
     /**
-     * Sheet object.
+     * Sheet object; null for streamed sheets.
      */
+    @Nullable
     private final Sheet sheet;
 
+    /**
+     * Sheet name.
+     */
+    private final String sheetName;
+
     /**
      * Rows iterator.
      */
@@ -76,15 +82,25 @@ public abstract class AbstractDSFormer<Param, Params, Var, Vars>
     private DSListImpl<Param, Params, Vars> dsList;
 
     /**
-     * Supplier of cells iterator.
+     * Supplier of data rows iterator.
+     */
+    private Utils.MutableSupplier<Iterator<Row>> dataSourceSup = Utils.MutableSupplier.create();
+
+    /**
+     * Columnar store of the sheet, filled by iterating data rows.
      */
-    private Utils.MutableSupplier<Iterator<Cell>> dataSourceSup = Utils.MutableSupplier.create();
+    private final ColumnarStore<Param> store;
 
     /**
      * Datasets collection.
      */
     private Collection<DSImpl<Param, Var, Vars>> dataSets;
 
+    /**
+     * Index of datasets by names; the first dataset is taken for duplicated names.
+     */
+    private Map<String, DSImpl<Param, Var, Vars>> dataSetsByName;
+
     /**
      * Constructor.
      *
@@ -95,15 +111,41 @@ public abstract class AbstractDSFormer<Param, Params, Var, Vars>
     protected AbstractDSFormer(@Nonnull final Sheet sheet,
                                @Nonnull final BaseConfig<Param, Params, Var, Vars> settings,
                                @Nonnull final EvaluationContext evaluationContext) {
+        this(sheet, sheet.getSheetName(), sheet.rowIterator(), settings, evaluationContext);
+    }
+
+    /**
+     * Constructor for sheets without Sheet object (streamed ones).
+     *
+     * @param sheetName String sheet name
+     * @param rows Rows iterator
+     * @param settings Base Config
+     * @param evaluationContext EvaluationContext object.
+     */
+    protected AbstractDSFormer(@Nonnull final String sheetName,
+                               @Nonnull final Iterator<Row> rows,
+                               @Nonnull final BaseConfig<Param, Params, Var, Vars> settings,
+                               @Nonnull final EvaluationContext evaluationContext) {
+        this(null, sheetName, rows, settings, evaluationContext);
+    }
+
+    private AbstractDSFormer(@Nullable final Sheet sheet,
+                             @Nonnull final String sheetName,
+                             @Nonnull final Iterator<Row> rows,
+                             @Nonnull final BaseConfig<Param, Params, Var, Vars> settings,
+                             @Nonnull final EvaluationContext evaluationContext) {
         this.sheet = sheet;
+        this.sheetName = sheetName;
         this.settings = settings;
-        this.rows = sheet.rowIterator();
+        this.rows = rows;
         this.evaluationContext = evaluationContext;
+        this.store = new ColumnarStore<>(dataSourceSup,
+                evaluationContext.getStrategy().materializeValues ? evaluationContext : null);
         this.columnsPred = Utils.statefulHeaderPredicate(settings.columnsPred, evaluationContext);
     }
 
     /**
-     * Returns iterator which iterate over significant data only.
+     * Returns iterator which passes significant data of each row to column handlers.
      * This data is filtered using rowStrategy.
      *
      * @param rows        - rows iterator
@@ -112,20 +154,21 @@ public abstract class AbstractDSFormer<Param, Params, Var, Vars>
      * @return iterator to cycle over all passed rows using row strategy.
      */
     @Nonnull
-    private static Iterator<Cell> applyRowsStrategy(@Nonnull final Iterator<Row> rows,
-                                                    @Nonnull final Function<Iterator<Cell>, Iterator<Cell>> rowStrategy,
-                                                    @Nonnull final Runnable newLineCb) {
-        return Iterators.concat(new AbstractIterator<Iterator<Cell>>() {
+    private static Iterator<Row> applyRowsStrategy(@Nonnull final Iterator<Row> rows,
+                                                   @Nonnull final ColumnsMemory rowStrategy,
+                                                   @Nonnull final Runnable newLineCb) {
+        return new AbstractIterator<Row>() {
             @Override
-            protected Iterator<Cell> computeNext() {
+            protected Row computeNext() {
                 if (!rows.hasNext()) {
                     return endOfData();
                 }
-                Iterator<Cell> newCellIter = rows.next().cellIterator();
+                Row row = rows.next();
                 newLineCb.run();
-                return rowStrategy.apply(newCellIter);
+                rowStrategy.accept(row);
+                return row;
             }
-        });
+        };
     }
 
     @Nonnull
@@ -182,18 +225,15 @@ public abstract class AbstractDSFormer<Param, Params, Var, Vars>
         if (dsList == null) {
             return null;
         }
-        Iterator<Cell> dataCells = applyRowsStrategy(rows, memory, this::nextRow);
-        dataSourceSup.set(dataCells);
-        Iterator<DSImpl<Param, Var, Vars>> dataSetsIter;
+        dataSourceSup.set(applyRowsStrategy(rows, memory, this::nextRow));
         if (dataSets == null) {
-            dataSetsIter = Collections.emptyIterator();
+            dsList.lazyInit(Collections.emptyList(), Collections.emptyMap());
         } else {
             for (DSImpl<Param, Var, Vars> dsImpl : dataSets) {
                 dsImpl.lazyInit(dsList);
             }
-            dataSetsIter = dataSets.iterator();
+            dsList.lazyInit(dataSets, dataSetsByName);
         }
-        dsList.lazyInit(dataSetsIter);
         return dsList;
     }
 
@@ -219,7 +259,7 @@ public abstract class AbstractDSFormer<Param, Params, Var, Vars>
      * @return new DSListImpl object.
      */
     protected DSList<Param, Params, Vars> doDSList() {
-        dsList = new DSListImpl<>(evaluationContext, sheet, settings.paramsConverter, settings.sourceQualifier, dataSourceSup);
+        dsList = new DSListImpl<>(evaluationContext, sheet, sheetName, settings.paramsConverter, settings.sourceQualifier, store);
         return dsList;
     }
 
@@ -229,7 +269,18 @@ public abstract class AbstractDSFormer<Param, Params, Var, Vars>
      * @param input Param to be pushed.
      */
     protected void pushToDSList(final Param input) {
-        dsList.accept(input);
+        dsList.accept(input, -1, null, null);
+    }
+
+    /**
+     * Push Param into DSList with its cells; values of datasets can be pushed for it after that.
+     *
+     * @param input Param to be pushed
+     * @param entity DSCell entity of the parameter
+     * @param param DSCell of the parameter.
+     */
+    protected void pushToDSList(final Param input, @Nullable final DSCell entity, @Nonnull final DSCell param) {
+        dsList.accept(input, param.getCell().getRowIndex(), entity, param);
     }
 
     /**
@@ -242,14 +293,17 @@ public abstract class AbstractDSFormer<Param, Params, Var, Vars>
     protected DSImpl<Param, Var, Vars> doDS(@Nonnull final Cell headerCell) {
         final DSImpl<Param, Var, Vars> ds = new DSImpl<>(Objects.toString(dsList),
                 evaluationContext,
-                evaluationContext.getCellValue(headerCell).toString(),
+                evaluationContext.getCellStringValue(headerCell),
+                headerCell.getColumnIndex(),
                 settings.varConverter,
                 settings.varsConverter,
-                dataSourceSup);
+                store);
         if (dataSets == null) {
             dataSets = Lists.newArrayList();
+            dataSetsByName = Maps.newHashMap();
         }
         dataSets.add(ds);
+        dataSetsByName.putIfAbsent(ds.getName(), ds);
         return ds;
     }
 
@@ -0,0 +1,252 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.poi.ss.usermodel.Cell;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * <pre>
+ * Columnar store of the data rows of a sheet: parameters of the DatasetList and values of each Dataset.
+ * Filled in a single pass over the data rows on the first access to any column:
+ * column handlers put parameters and values directly into their columns while rows are iterated.
+ * Entity and parameter cells are kept once per row and shared by all columns;
+ * columns keep value cells only, aligned with parameters, so no objects are created per value.
+ * Once filled, columns are read without locking.
+ * If values are materialized, entries of a column are made on the first access to it,
+ * with materialized value cells (see {@link DSCell#materialized(Cell, EvaluationContext)}), and then reused.
+ * </pre>
+ */
+public class ColumnarStore<Param> {
+
+    /**
+     * Empty column.
+     */
+    private static final Cell[] EMPTY = new Cell[0];
+
+    /**
+     * Supplier of data rows iterator; column handlers are invoked while it is iterated.
+     */
+    private final Supplier<? extends Iterator<?>> rows;
+
+    /**
+     * EvaluationContext of materialized value cells; null if values are not materialized.
+     */
+    @Nullable
+    private final EvaluationContext materializeContext;
+
+    /**
+     * Parameters of the DatasetList.
+     */
+    private final List<Param> parameters = Lists.newArrayList();
+
+    /**
+     * Entity cells of parameters.
+     */
+    private final List<DSCell> entities = Lists.newArrayList();
+
+    /**
+     * Cells of parameters.
+     */
+    private final List<DSCell> parameterCells = Lists.newArrayList();
+
+    /**
+     * Rows of parameters.
+     */
+    private final Map<Param, Integer> parameterRows = Maps.newHashMap();
+
+    /**
+     * Value cells of datasets, one column per dataset; indexes are the ones of parameters.
+     */
+    private final List<Cell[]> columns = Lists.newArrayList();
+
+    /**
+     * Entries of columns made on the first access to each column; null if values are not materialized.
+     */
+    private AtomicReferenceArray<List<VarsConvInfo<Param>>> entries;
+
+    /**
+     * Flag if the store is filled.
+     */
+    private volatile boolean filled;
+
+    /**
+     * Constructor.
+     *
+     * @param rows Supplier of data rows iterator.
+     */
+    public ColumnarStore(@Nonnull final Supplier<? extends Iterator<?>> rows) {
+        this(rows, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param rows Supplier of data rows iterator
+     * @param materializeContext EvaluationContext of materialized value cells; null to make entries on each access.
+     */
+    public ColumnarStore(@Nonnull final Supplier<? extends Iterator<?>> rows,
+                         @Nullable final EvaluationContext materializeContext) {
+        this.rows = rows;
+        this.materializeContext = materializeContext;
+    }
+
+    /**
+     * Add column of a dataset. Should be invoked before the store is filled.
+     *
+     * @return int index of the column.
+     */
+    public int addColumn() {
+        columns.add(EMPTY);
+        return columns.size() - 1;
+    }
+
+    /**
+     * Add parameter. Invoked by column handlers while the store is filled.
+     *
+     * @param param Param converted parameter
+     * @param rowIndex int index of the row of the parameter; -1 if unknown
+     * @param entity DSCell entity of the parameter
+     * @param paramCell DSCell of the parameter; values can be added for the parameter only if it is set.
+     */
+    public void addParameter(@Nonnull final Param param, final int rowIndex,
+                             @Nullable final DSCell entity, @Nullable final DSCell paramCell) {
+        parameters.add(param);
+        entities.add(entity);
+        parameterCells.add(paramCell);
+        if (rowIndex >= 0) {
+            parameterRows.put(param, rowIndex);
+        }
+    }
+
+    /**
+     * Add value of the last added parameter. Invoked by column handlers while the store is filled.
+     *
+     * @param column int index of the column
+     * @param var Cell value.
+     */
+    public void addValue(final int column, @Nonnull final Cell var) {
+        int paramIdx = parameters.size() - 1;
+        Cell[] cells = columns.get(column);
+        if (paramIdx >= cells.length) {
+            cells = Arrays.copyOf(cells, Math.max(paramIdx + 1, cells.length * 2));
+            columns.set(column, cells);
+        }
+        cells[paramIdx] = var;
+    }
+
+    /**
+     * Get parameters; the store is filled if it is not yet.
+     *
+     * @return unmodifiable List of parameters.
+     */
+    @Nonnull
+    public List<Param> getParameters() {
+        fill();
+        return Collections.unmodifiableList(parameters);
+    }
+
+    /**
+     * Get row of the parameter; the store is filled if it is not yet.
+     *
+     * @param param Param converted parameter
+     * @return int index of the row of the parameter; -1 if there is no such parameter.
+     */
+    public int getParameterRow(@Nonnull final Param param) {
+        fill();
+        Integer rowIndex = parameterRows.get(param);
+        return rowIndex == null ? -1 : rowIndex;
+    }
+
+    /**
+     * Get entries of the dataset; the store is filled if it is not yet.
+     * Entries are made while iterated; materialized entries are made on the first access to the column.
+     *
+     * @param column int index of the column
+     * @return Iterator of entries.
+     */
+    @Nonnull
+    public Iterator<VarsConvInfo<Param>> getEntries(final int column) {
+        fill();
+        if (entries == null) {
+            return makeEntries(column, false);
+        }
+        List<VarsConvInfo<Param>> result = entries.get(column);
+        if (result == null) {
+            // the first made entries are kept, so materialized cells are the same for all readers
+            entries.compareAndSet(column, null, ImmutableList.copyOf(makeEntries(column, true)));
+            result = entries.get(column);
+        }
+        return result.iterator();
+    }
+
+    @Nonnull
+    private Iterator<VarsConvInfo<Param>> makeEntries(final int column, final boolean materialize) {
+        final Cell[] cells = columns.get(column);
+        final int size = Math.min(cells.length, parameters.size());
+        return new AbstractIterator<VarsConvInfo<Param>>() {
+            private int paramIdx;
+
+            @Override
+            protected VarsConvInfo<Param> computeNext() {
+                while (paramIdx < size) {
+                    int idx = paramIdx++;
+                    if (cells[idx] != null) {
+                        return new VarsConvInfo<>(entities.get(idx), parameterCells.get(idx),
+                                parameters.get(idx), cells[idx],
+                                materialize ? DSCell.materialized(cells[idx], materializeContext) : null);
+                    }
+                }
+                return endOfData();
+            }
+        };
+    }
+
+    private void fill() {
+        if (filled) {
+            return;
+        }
+        synchronized (this) {
+            if (!filled) {
+                Iterator<?> iterator = rows.get();
+                while (iterator.hasNext()) {
+                    iterator.next();
+                }
+                if (materializeContext != null) {
+                    entries = new AtomicReferenceArray<>(columns.size());
+                }
+                filled = true;
+            }
+        }
+    }
+}
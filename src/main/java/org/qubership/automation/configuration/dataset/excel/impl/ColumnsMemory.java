@@ -29,6 +29,7 @@ import javax.annotation.Nullable;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
 import org.qubership.automation.configuration.dataset.excel.core.ColumnHandler;
 import org.qubership.automation.configuration.dataset.excel.core.Consumer;
 
@@ -152,6 +153,21 @@ public class ColumnsMemory implements Function<Iterator<Cell>, Iterator<Cell>> {
         return currentStrategy.apply(input);
     }
 
+    /**
+     * Apply the currentStrategy to cells of the row, so callbacks are invoked for them.
+     * When columns are memorized, only cells of these columns are fetched from the row, by their indexes,
+     * and no objects are created.
+     *
+     * @param row Row object.
+     */
+    public void accept(@Nonnull final Row row) {
+        if (currentStrategy instanceof RegularStrategy) {
+            ((RegularStrategy) currentStrategy).accept(row);
+        } else if (currentStrategy != DEFAULT_EMPTY_STRATEGY) {
+            Iterators.size(currentStrategy.apply(row.cellIterator()));
+        }
+    }
+
     private static class CallBackBoundary implements Comparable<CallBackBoundary> {
 
         /**
@@ -304,8 +320,14 @@ public class ColumnsMemory implements Function<Iterator<Cell>, Iterator<Cell>> {
          */
         private final List<CallBackBoundary> initedSortedCbs;
 
+        /**
+         * The same CallBackBoundary objects in array, to be iterated without creating iterators.
+         */
+        private final CallBackBoundary[] sortedCbsArray;
+
         private RegularStrategy(@Nonnull final List<CallBackBoundary> initedSortedCbs) {
             this.initedSortedCbs = initedSortedCbs;
+            this.sortedCbsArray = initedSortedCbs.toArray(new CallBackBoundary[0]);
         }
 
         /**
@@ -345,5 +367,19 @@ public class ColumnsMemory implements Function<Iterator<Cell>, Iterator<Cell>> {
                 }
             };
         }
+
+        /**
+         * Invoke callbacks for cells of memorized columns of the row; other cells are not touched.
+         *
+         * @param row Row object.
+         */
+        public void accept(@Nonnull final Row row) {
+            for (CallBackBoundary boundary : sortedCbsArray) {
+                Cell cell = row.getCell(boundary.cellIndex);
+                if (cell != null) {
+                    boundary.cbHandler.accept(cell);
+                }
+            }
+        }
     }
 }
@@ -20,9 +20,16 @@ package org.qubership.automation.configuration.dataset.excel.impl;
 import javax.annotation.Nonnull;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
 import org.qubership.automation.configuration.dataset.excel.core.DS;
 import org.qubership.automation.configuration.dataset.excel.core.ReevaluateFormulas;
 
+/**
+ * <pre>
+ * Cell of a dataset sheet bound to its {@link EvaluationContext}.
+ * Materialized cells (see {@link #materialized(Cell, EvaluationContext)}) format their values once.
+ * </pre>
+ */
 public class DSCell {
 
     /**
@@ -30,11 +37,27 @@ public class DSCell {
      */
     private final EvaluationContext evaluator;
 
+    /**
+     * Flag if the value is formatted once.
+     */
+    private final boolean materialized;
+
     /**
      * Cell object.
      */
     private final Cell cell;
 
+    /**
+     * String value formatted on the first read; used by materialized cells only.
+     * Racy single-check: the value may be formatted twice by concurrent reads, but it is the same anyway.
+     */
+    private String stringValue;
+
+    /**
+     * Value made on the first read; used by materialized cells only. Racy single-check as {@link #stringValue}.
+     */
+    private Object value;
+
     /**
      * Constructor.
      *
@@ -42,8 +65,28 @@ public class DSCell {
      * @param evaluator EvaluationContext object.
      */
     public DSCell(@Nonnull final Cell cell, @Nonnull final EvaluationContext evaluator) {
+        this(cell, evaluator, false);
+    }
+
+    private DSCell(@Nonnull final Cell cell, @Nonnull final EvaluationContext evaluator, final boolean materialized) {
         this.cell = cell;
         this.evaluator = evaluator;
+        this.materialized = materialized;
+    }
+
+    /**
+     * Make materialized cell: its value is formatted on the first read, then the same String is returned
+     * by {@link #getStringValue()}; {@link #getValue()} returns the same typed value,
+     * formula of which is evaluated once too.
+     * Should be used for cells which values are not changed, see {@link ReevaluateFormulas#ONCE}.
+     *
+     * @param cell Cell object
+     * @param evaluator EvaluationContext object
+     * @return new DSCell.
+     */
+    @Nonnull
+    public static DSCell materialized(@Nonnull final Cell cell, @Nonnull final EvaluationContext evaluator) {
+        return new DSCell(cell, evaluator, true);
     }
 
     /**
@@ -62,15 +105,41 @@ public class DSCell {
      */
     @Nonnull
     public Object getValue() {
-        return evaluator.getCellValue(cell);
+        if (!materialized) {
+            return evaluator.getCellValue(getCell());
+        }
+        Object result = value;
+        if (result == null) {
+            if (cell.getCellType() == CellType.FORMULA) {
+                result = new Object() {
+                    @Override
+                    public String toString() {
+                        return getStringValue();
+                    }
+                };
+            } else {
+                result = evaluator.getCellValue(cell);
+            }
+            value = result;
+        }
+        return result;
     }
 
     /**
-     * just a shortcut of {@link #getValue}.toString()
+     * just a shortcut of {@link #getValue}.toString(); formula is evaluated immediately,
+     * see {@link EvaluationContext#getCellStringValue(Cell)}
      */
     @Nonnull
     public String getStringValue() {
-        return getValue().toString();
+        if (!materialized) {
+            return evaluator.getCellStringValue(getCell());
+        }
+        String value = stringValue;
+        if (value == null) {
+            value = evaluator.getCellStringValue(cell);
+            stringValue = value;
+        }
+        return value;
     }
 
     /**
@@ -17,6 +17,7 @@
 
 package org.qubership.automation.configuration.dataset.excel.impl;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -24,6 +25,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.qubership.automation.configuration.dataset.excel.builder.config.BaseConfig;
 import org.qubership.automation.configuration.dataset.excel.core.Consumer;
@@ -100,6 +102,44 @@ public class DSFormer<Param, Params, Var, Vars> extends AbstractDSFormer<Param,
         paramsPred = Utils.statefulHeaderPredicate(evaluationContext, PARAMETER_COL_NAME);
     }
 
+    /**
+     * Constructor for sheets without Sheet object (streamed ones).
+     *
+     * @param sheetName String sheet name
+     * @param rows Rows iterator
+     * @param settings Base Config object
+     * @param paramsEntryConverter ParamsEntryConverter object
+     * @param varsEntryConverter VarsEntryConverter object
+     * @param evaluationContext EvaluationContext object.
+     */
+    public DSFormer(@Nonnull final String sheetName,
+                    @Nonnull final Iterator<Row> rows,
+                    @Nonnull final BaseConfig<Param, Params, Var, Vars> settings,
+                    @Nonnull final ParamsEntryConverter<Param> paramsEntryConverter,
+                    @Nonnull final VarsEntryConverter<Param, Var> varsEntryConverter,
+                    @Nonnull final EvaluationContext evaluationContext) {
+        super(sheetName, rows, settings, evaluationContext);
+        this.paramsEntryConverter = paramsEntryConverter;
+        this.varsEntryConverter = varsEntryConverter;
+        entityPred = Utils.statefulHeaderPredicate(evaluationContext, ENTITY_COL_NAME);
+        paramsPred = Utils.statefulHeaderPredicate(evaluationContext, PARAMETER_COL_NAME);
+    }
+
+    /**
+     * Make predicate of header cells of columns which are read by the former: mandatory and selected ones.
+     * Can be used to skip other columns before rows are passed to the former.
+     *
+     * @param columnsPred Predicate of DSCells selecting dataset columns
+     * @param evaluationContext EvaluationContext object
+     * @return Predicate of header Cells.
+     */
+    @Nonnull
+    public static Predicate<Cell> headerPredicate(@Nonnull final Predicate<DSCell> columnsPred,
+                                                  @Nonnull final EvaluationContext evaluationContext) {
+        return Utils.statefulHeaderPredicate(evaluationContext, ENTITY_COL_NAME, PARAMETER_COL_NAME)
+                .or(Utils.statefulHeaderPredicate(columnsPred, evaluationContext));
+    }
+
     /**
      * Get mandatory columns list.
      *
@@ -122,9 +162,8 @@ public class DSFormer<Param, Params, Var, Vars> extends AbstractDSFormer<Param,
     public Consumer<Cell> getHandler(@Nonnull final Cell headerCell, @Nonnull final Predicate<Cell> predicate) {
         if (predicate.equals(entityPred)) {
             return input -> {
-                DSCell entity = new DSCell(input, evaluationContext);
-                if (!entity.getStringValue().isEmpty()) {
-                    curEntity = entity;
+                if (!evaluationContext.getCellStringValue(input).isEmpty()) {
+                    curEntity = new DSCell(input, evaluationContext);
                 }
             };
         } else if (predicate.equals(paramsPred)) {
@@ -157,7 +196,7 @@ public class DSFormer<Param, Params, Var, Vars> extends AbstractDSFormer<Param,
     protected void pushToDS(@Nonnull final DSImpl<Param, Var, Vars> ds, @Nonnull final Cell input) {
         if (convertedParam != null) {
             // for case when convertedParam has been filtered
-            ds.accept(new VarsConvInfo<>(curEntity, curParam, convertedParam, input));
+            ds.accept(input);
         }
     }
 
@@ -168,10 +207,10 @@ public class DSFormer<Param, Params, Var, Vars> extends AbstractDSFormer<Param,
      */
     protected void pushToDSList(@Nonnull final Cell input) {
         curParam = new DSCell(input, evaluationContext);
-        convertedParam = paramsEntryConverter.doParamsEntry(curEntity, new DSCell(input, evaluationContext));
+        convertedParam = paramsEntryConverter.doParamsEntry(curEntity, curParam);
         if (convertedParam != null) {
             // for case when convertedParam has been filtered
-            pushToDSList(convertedParam);
+            pushToDSList(convertedParam, curEntity, curParam);
         }
     }
 }
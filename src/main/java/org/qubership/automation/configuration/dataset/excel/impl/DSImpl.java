@@ -18,12 +18,16 @@
 package org.qubership.automation.configuration.dataset.excel.impl;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.qubership.automation.configuration.dataset.excel.core.DS;
 import org.qubership.automation.configuration.dataset.excel.core.ReevaluateFormulas;
 import org.qubership.automation.configuration.dataset.excel.core.VarsEntryConverter;
@@ -35,7 +39,7 @@ import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Runnables;
 
-public class DSImpl<Param, Var, Vars> extends Utils.CachingIterator<VarsConvInfo<Param>> implements DS<Param, Vars> {
+public class DSImpl<Param, Var, Vars> implements DS<Param, Vars> {
 
     /**
      * Dataset qualifier.
@@ -47,11 +51,36 @@ public class DSImpl<Param, Var, Vars> extends Utils.CachingIterator<VarsConvInfo
      */
     private final EvaluationContext eval;
 
+    /**
+     * Columnar store of the sheet.
+     */
+    private final ColumnarStore<Param> store;
+
+    /**
+     * Index of the dataset column in the store.
+     */
+    private final int storeColumn;
+
+    /**
+     * Entries of the dataset: view of the column of the store.
+     */
+    private final Iterable<VarsConvInfo<Param>> datasource;
+
+    /**
+     * Cleanup of the evaluation context before access to the dataset, see {@link ReevaluateFormulas#ON_DS_ACCESS}.
+     */
+    private final Runnable preGet;
+
     /**
      * Supplier of Variables.
      */
     private final VarsSupplier<Param, Var, Vars> source;
 
+    /**
+     * Index of the dataset column; -1 if unknown.
+     */
+    private final int columnIndex;
+
     /**
      * Dataset name.
      */
@@ -73,22 +102,27 @@ public class DSImpl<Param, Var, Vars> extends Utils.CachingIterator<VarsConvInfo
      * @param sourceQualifier String qualifier
      * @param eval EvaluationContext object
      * @param name String dataset name
+     * @param columnIndex int index of the dataset column; -1 if unknown
      * @param varConv Supplier of VarsEntryConverters
      * @param varsConv Supplier of Functions
-     * @param cellsIter Cells Iterator Supplier
+     * @param store ColumnarStore of the sheet; a column is added to it for the dataset.
      */
     protected DSImpl(@Nonnull final String sourceQualifier,
                      @Nonnull final EvaluationContext eval,
                      @Nonnull final String name,
+                     final int columnIndex,
                      @Nonnull final Supplier<VarsEntryConverter<Param, Var>> varConv,
                      @Nonnull final Supplier<Function<Iterator<Var>, Vars>> varsConv,
-                     @Nonnull final Supplier<? extends Iterator<?>> cellsIter) {
-        super(cellsIter);
+                     @Nonnull final ColumnarStore<Param> store) {
+        this.columnIndex = columnIndex;
         setName(name);
         this.qualifier = sourceQualifier + "/" + name;
         this.eval = eval;
-        this.source = doVarsSupplier(eval.getStrategy().onDsCleanup,
-                eval.getStrategy().reuseConverters, varConv, varsConv, eval);
+        this.store = store;
+        this.storeColumn = store.addColumn();
+        this.datasource = () -> store.getEntries(storeColumn);
+        this.preGet = EvaluationContext.cleanupRunnable(eval.getStrategy().onDsCleanup, eval);
+        this.source = doVarsSupplier(eval.getStrategy().reuseConverters, varConv, varsConv, preGet);
     }
 
     /**
@@ -101,6 +135,15 @@ public class DSImpl<Param, Var, Vars> extends Utils.CachingIterator<VarsConvInfo
         return qualifier;
     }
 
+    /**
+     * Add value of the current parameter to the dataset; invoked by column handler while the store is filled.
+     *
+     * @param var Cell value.
+     */
+    public void accept(@Nonnull final Cell var) {
+        store.addValue(storeColumn, var);
+    }
+
     /**
      * Lazy initializer under parent DatasetList.
      *
@@ -123,13 +166,16 @@ public class DSImpl<Param, Var, Vars> extends Utils.CachingIterator<VarsConvInfo
     }
 
     /**
-     * Set name.
+     * Set name; the index of datasets of the parent DatasetList is updated.
      *
      * @param name String name to set.
      */
     @Override
     public void setName(@Nonnull final String name) {
         this.name = name;
+        if (myList != null) {
+            myList.onDataSetRenamed();
+        }
     }
 
     /**
@@ -151,12 +197,80 @@ public class DSImpl<Param, Var, Vars> extends Utils.CachingIterator<VarsConvInfo
      */
     @Override
     public Vars getVariables(@Nonnull final VarsEntryModificator<Param> modificator) {
-        stateCheck.run();
-        Preconditions.checkArgument(eval.getStrategy() == ReevaluateFormulas.IN_CONVERTER,
-                "Works only for ReevaluateFormulas.IN_CONVERTER");
+        checkModificationsAllowed();
         return source.get(modificator);
     }
 
+    /**
+     * Get variables for each of modificators.
+     *
+     * @param modificators did modifications of value cells of each variable entry;
+     *                     modifications of each modificator are temporarily, just for its vars
+     * @return List of Vars objects, one per modificator.
+     */
+    @Override
+    public List<Vars> getVariablesBatch(@Nonnull final Iterable<? extends VarsEntryModificator<Param>> modificators) {
+        checkModificationsAllowed();
+        return source.get(modificators);
+    }
+
+    /**
+     * Get value of the single parameter, without getting of other variables.
+     * The value is not passed through {@link VarsEntryConverter};
+     * formula is evaluated on access, see {@link DSCell#getValue()}.
+     * If there are several rows with the same parameter, the last one is taken, as by {@link #getVariables()}.
+     * The row of the parameter is found by the index of the parent DatasetList,
+     * so entries of the dataset are not read; for streamed sheets they are scanned.
+     * The evaluation context is cleaned up before, as by {@link #getVariables()}.
+     *
+     * @param param parameter converted by ParamsEntryConverter
+     * @return DSCell of the value; null if there is no value for the parameter.
+     */
+    @Nullable
+    public DSCell getVariable(@Nonnull final Param param) {
+        stateCheck.run();
+        preGet.run();
+        Cell cell = findCell(param);
+        return cell == null ? null : new DSCell(cell, eval);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private Cell findCell(@Nonnull final Param param) {
+        Sheet sheet = myList.getSheet();
+        if (sheet != null && columnIndex >= 0) {
+            int rowIndex = myList.getParameterRow(param);
+            Row row = rowIndex < 0 ? null : sheet.getRow(rowIndex);
+            return row == null ? null : row.getCell(columnIndex);
+        }
+        Cell result = null;
+        for (VarsConvInfo<Param> info : datasource) {
+            if (param.equals(info.convertedParam)) {
+                result = info.var;
+            }
+        }
+        return result;
+    }
+
+    private void checkModificationsAllowed() {
+        stateCheck.run();
+        Preconditions.checkArgument(eval.getStrategy() == ReevaluateFormulas.IN_CONVERTER
+                        || eval.getStrategy() == ReevaluateFormulas.ON_CELL_CHANGE
+                        || eval.getStrategy() == ReevaluateFormulas.CACHED,
+                "Works only for ReevaluateFormulas.IN_CONVERTER, ON_CELL_CHANGE and CACHED");
+    }
+
+    /**
+     * Get entries of the dataset, before conversion by {@link VarsEntryConverter}.
+     *
+     * @return Iterable of VarsConvInfo objects.
+     */
+    @Nonnull
+    public Iterable<VarsConvInfo<Param>> getDataSource() {
+        stateCheck.run();
+        return datasource;
+    }
+
     /**
      * Get eval field.
      *
@@ -178,13 +292,10 @@ public class DSImpl<Param, Var, Vars> extends Utils.CachingIterator<VarsConvInfo
     }
 
     private VarsSupplier<Param, Var, Vars> doVarsSupplier(
-            final boolean onDsCleanup,
             final boolean reuseConverters,
             @Nonnull final Supplier<VarsEntryConverter<Param, Var>> varConv,
             @Nonnull final Supplier<Function<Iterator<Var>, Vars>> varsConv,
-            @Nonnull final EvaluationContext evaluator) {
-        Iterable<VarsConvInfo<Param>> datasource = new MemoizingIterable<>(this);
-        Runnable preGet = EvaluationContext.cleanupRunnable(onDsCleanup, evaluator);
+            @Nonnull final Runnable preGet) {
         if (reuseConverters) {
             return new VarsSupplier<>(varConv, varsConv, datasource, eval, preGet);
         } else {
@@ -265,15 +376,15 @@ public class DSImpl<Param, Var, Vars> extends Utils.CachingIterator<VarsConvInfo
                         computed = varConv.doVarsEntry(toConvert.entity,
                                 toConvert.param,
                                 toConvert.convertedParam,
-                                new DSCell(toConvert.var, evaluator));
+                                toConvert.varCell == null
+                                        ? new DSCell(toConvert.var, evaluator)
+                                        : toConvert.varCell);
                     }
                     return computed == null ? endOfData() : computed;
                 }
             };
             Function<Iterator<Var>, Vars> varsConv = this.varsConv.get();
-            synchronized (evaluator) {
-                return varsConv.apply(vars);
-            }
+            return evaluator.doShared(() -> varsConv.apply(vars));
         }
 
         /**
@@ -283,21 +394,59 @@ public class DSImpl<Param, Var, Vars> extends Utils.CachingIterator<VarsConvInfo
          * @return Vars object.
          */
         public Vars get(@Nonnull final VarsEntryModificator<Param> modificator) {
+            Changelist changes = collectChanges(modificator);
+            if (evaluator.isOverlay() && changes.canOverlay()) {
+                return evaluator.doOverlaid(changes.getNewValues(), this::get);
+            }
+            return evaluator.doExclusive(() -> get(changes));
+        }
+
+        /**
+         * Get variables for each of modificators.
+         * Changes of each modificator are collected, applied and reverted in turn,
+         * while the evaluation context is locked once for all of them.
+         * In overlay mode each modificator is evaluated separately, without locking of the evaluation context.
+         *
+         * @param modificators Iterable of VarsEntryModificator of Param objects
+         * @return List of Vars objects.
+         */
+        public List<Vars> get(@Nonnull final Iterable<? extends VarsEntryModificator<Param>> modificators) {
+            if (evaluator.isOverlay()) {
+                List<Vars> result = Lists.newArrayList();
+                for (VarsEntryModificator<Param> modificator : modificators) {
+                    result.add(get(modificator));
+                }
+                return result;
+            }
+            return evaluator.doExclusive(() -> {
+                List<Vars> result = Lists.newArrayList();
+                for (VarsEntryModificator<Param> modificator : modificators) {
+                    // changes remember original values, so they are collected when previous ones are reverted
+                    result.add(get(collectChanges(modificator)));
+                }
+                return result;
+            });
+        }
+
+        @Nonnull
+        private Changelist collectChanges(@Nonnull final VarsEntryModificator<Param> modificator) {
             Changelist changes = new Changelist(null, evaluator.getDescriptors());
             for (VarsConvInfo<Param> info : datasource) {
                 Cell toModify = info.var;
                 changes.setCurrentCell(toModify);
                 modificator.modify(info.entity, info.param, info.convertedParam, changes);
             }
-            synchronized (evaluator) {
-                changes.applyChanges();
-                Vars result;
-                try {
-                    result = get();
-                } finally {
-                    changes.revertChanges();
-                }
-                return result;
+            return changes;
+        }
+
+        private Vars get(@Nonnull final Changelist changes) {
+            changes.applyChanges();
+            try {
+                evaluator.notifyUpdateCells(changes.getChangedCells());
+                return get();
+            } finally {
+                changes.revertChanges();
+                evaluator.notifyUpdateCells(changes.getChangedCells());
             }
         }
     }
@@ -360,50 +509,4 @@ public class DSImpl<Param, Var, Vars> extends Utils.CachingIterator<VarsConvInfo
             return cached;
         }
     }
-
-    private static class MemoizingIterable<T> implements Iterable<T> {
-
-        /**
-         * Iterator of memorized objects.
-         */
-        final Iterator<T> toMemorize;
-
-        /**
-         * Flag if the object is already initialized.
-         */
-        volatile boolean initialized;
-
-        /**
-         * Iterable value.
-         */
-        Iterable<T> value;
-
-        /**
-         * Constructor.
-         *
-         * @param toMemorize Iterator of memorized objects.
-         */
-        public MemoizingIterable(final Iterator<T> toMemorize) {
-            this.toMemorize = toMemorize;
-        }
-
-        /**
-         * Get iterator.
-         *
-         * @return Iterator of value elements.
-         */
-        @Override
-        public Iterator<T> iterator() {
-            if (!initialized) {
-                synchronized (this) {
-                    if (!initialized) {
-                        value = Lists.newArrayList(toMemorize);
-                        initialized = true;
-                        return value.iterator();
-                    }
-                }
-            }
-            return value.iterator();
-        }
-    }
 }
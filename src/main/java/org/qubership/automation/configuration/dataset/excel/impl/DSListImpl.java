@@ -17,10 +17,13 @@
 
 package org.qubership.automation.configuration.dataset.excel.impl;
 
+import java.util.AbstractSet;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -28,13 +31,14 @@ import javax.annotation.Nullable;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.qubership.automation.configuration.dataset.excel.core.DS;
 import org.qubership.automation.configuration.dataset.excel.core.DSList;
+import org.qubership.automation.configuration.dataset.excel.core.Named;
 
-import com.google.common.collect.Iterables;
-import com.google.common.collect.Sets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Runnables;
 
-public class DSListImpl<Param, Params, Vars> extends Utils.CachingIterator<Param>
-        implements DSList<Param, Params, Vars> {
+public class DSListImpl<Param, Params, Vars> implements DSList<Param, Params, Vars> {
 
     /**
      * Constant Runnable throwing exception in case init is not performed.
@@ -44,8 +48,9 @@ public class DSListImpl<Param, Params, Vars> extends Utils.CachingIterator<Param
     };
 
     /**
-     * Sheet object.
+     * Sheet object; null for streamed sheets.
      */
+    @Nullable
     private final Sheet mySheet;
 
     /**
@@ -71,13 +76,18 @@ public class DSListImpl<Param, Params, Vars> extends Utils.CachingIterator<Param
     /**
      * Cached Datasets.
      */
-    private volatile Set<DS<Param, Vars>> cachedDS;
+    private volatile DataSets<DS<Param, Vars>> cachedDS;
 
     /**
      * Cached parameters.
      */
     private volatile Params cachedParams;
 
+    /**
+     * Columnar store of the sheet.
+     */
+    private final ColumnarStore<Param> store;
+
     /**
      * Runnable to check state.
      */
@@ -88,6 +98,12 @@ public class DSListImpl<Param, Params, Vars> extends Utils.CachingIterator<Param
      */
     private Iterator<? extends DS<Param, Vars>> dsIter;
 
+    /**
+     * Index of datasets by names; null if it should be built from datasets iterator.
+     */
+    @Nullable
+    private Map<String, ? extends DS<Param, Vars>> dsIndex;
+
     /**
      * Constructor.
      *
@@ -95,19 +111,38 @@ public class DSListImpl<Param, Params, Vars> extends Utils.CachingIterator<Param
      * @param mySheet Sheet object
      * @param converterFunc Function to convert parameters
      * @param sourceQualifier String qualifier of source
-     * @param cellsIter Supplier of Cells iterator.
+     * @param store ColumnarStore of the sheet.
      */
     protected DSListImpl(@Nonnull final EvaluationContext eval,
                          @Nonnull final Sheet mySheet,
                          @Nonnull final Function<Iterator<Param>, Params> converterFunc,
                          @Nonnull final String sourceQualifier,
-                         @Nonnull final Supplier<? extends Iterator<?>> cellsIter) {
-        super(cellsIter);
-        this.name = mySheet.getSheetName();
+                         @Nonnull final ColumnarStore<Param> store) {
+        this(eval, mySheet, mySheet.getSheetName(), converterFunc, sourceQualifier, store);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param eval EvaluationContext object
+     * @param mySheet Sheet object; null for streamed sheets
+     * @param sheetName String sheet name
+     * @param converterFunc Function to convert parameters
+     * @param sourceQualifier String qualifier of source
+     * @param store ColumnarStore of the sheet.
+     */
+    protected DSListImpl(@Nonnull final EvaluationContext eval,
+                         @Nullable final Sheet mySheet,
+                         @Nonnull final String sheetName,
+                         @Nonnull final Function<Iterator<Param>, Params> converterFunc,
+                         @Nonnull final String sourceQualifier,
+                         @Nonnull final ColumnarStore<Param> store) {
+        this.store = store;
+        this.name = sheetName;
         this.mySheet = mySheet;
         this.converterFunc = converterFunc;
         this.eval = eval;
-        this.qualifier = sourceQualifier + "/" + mySheet.getSheetName();
+        this.qualifier = sourceQualifier + "/" + sheetName;
     }
 
     /**
@@ -130,6 +165,18 @@ public class DSListImpl<Param, Params, Vars> extends Utils.CachingIterator<Param
         stateCheck = Runnables.doNothing();
     }
 
+    /**
+     * Lazy initialization.
+     *
+     * @param dataSets Collection of datasets in the order of columns
+     * @param dsIndex Map of dataset names to datasets.
+     */
+    public void lazyInit(@Nonnull final Collection<? extends DS<Param, Vars>> dataSets,
+                         @Nonnull final Map<String, ? extends DS<Param, Vars>> dsIndex) {
+        this.dsIndex = dsIndex;
+        lazyInit(dataSets.iterator());
+    }
+
     /**
      * Get name.
      *
@@ -163,7 +210,7 @@ public class DSListImpl<Param, Params, Vars> extends Utils.CachingIterator<Param
             synchronized (this) {
                 if (cachedDS == null) {
                     stateCheck.run();
-                    cachedDS = Sets.newHashSet(dsIter);
+                    cachedDS = new DataSets<>(ImmutableList.copyOf(dsIter), dsIndex);
                 }
             }
         }
@@ -172,6 +219,7 @@ public class DSListImpl<Param, Params, Vars> extends Utils.CachingIterator<Param
 
     /**
      * Get Dataset by name.
+     * Datasets are found by the index of names, which is updated when datasets are renamed.
      *
      * @param name String dataset name
      * @return DS object if found; otherwise null.
@@ -179,7 +227,20 @@ public class DSListImpl<Param, Params, Vars> extends Utils.CachingIterator<Param
     @Override
     @Nullable
     public DS<Param, Vars> getDataSet(@Nonnull final String name) {
-        return Iterables.tryFind(getDataSets(), input -> name.equals(input.getName())).orNull();
+        getDataSets();
+        return cachedDS.get(name);
+    }
+
+    /**
+     * Update the index of datasets by names; invoked by a dataset of the list when it is renamed.
+     */
+    synchronized void onDataSetRenamed() {
+        if (cachedDS != null) {
+            cachedDS.reindex();
+        } else {
+            // the index is built from datasets iterator on first access
+            dsIndex = null;
+        }
     }
 
     /**
@@ -194,19 +255,43 @@ public class DSListImpl<Param, Params, Vars> extends Utils.CachingIterator<Param
             synchronized (this) {
                 if (cachedParams == null) {
                     stateCheck.run();
-                    cachedParams = converterFunc.apply(this);
+                    cachedParams = converterFunc.apply(store.getParameters().iterator());
                 }
             }
         }
         return cachedParams;
     }
 
+    /**
+     * Add parameter to the list and remember its row; invoked by column handler while the store is filled.
+     *
+     * @param param Param converted parameter
+     * @param rowIndex int index of the row of the parameter; -1 if unknown
+     * @param entity DSCell entity of the parameter
+     * @param paramCell DSCell of the parameter; values are added to datasets only if it is set.
+     */
+    public void accept(@Nonnull final Param param, final int rowIndex,
+                       @Nullable final DSCell entity, @Nullable final DSCell paramCell) {
+        store.addParameter(param, rowIndex, entity, paramCell);
+    }
+
+    /**
+     * Get row of the parameter; all parameters are read if they are not yet.
+     *
+     * @param param Param converted parameter
+     * @return int index of the row of the parameter; -1 if there is no such parameter.
+     */
+    public int getParameterRow(@Nonnull final Param param) {
+        stateCheck.run();
+        return store.getParameterRow(param);
+    }
+
     /**
      * Get Sheet.
      *
-     * @return Sheet mySheet.
+     * @return Sheet mySheet; null for streamed sheets.
      */
-    @Nonnull
+    @Nullable
     protected Sheet getSheet() {
         return mySheet;
     }
@@ -220,4 +305,62 @@ public class DSListImpl<Param, Params, Vars> extends Utils.CachingIterator<Param
     public String toString() {
         return qualifier;
     }
+
+    /**
+     * Unmodifiable set of datasets in the order of columns, with an index by names.
+     */
+    private static class DataSets<T extends Named> extends AbstractSet<T> {
+
+        /**
+         * Datasets in the order of columns.
+         */
+        private final List<T> list;
+
+        /**
+         * Index of datasets by names; the first dataset is taken for duplicated names.
+         */
+        private volatile Map<String, ? extends T> index;
+
+        private DataSets(@Nonnull final ImmutableList<T> list, @Nullable final Map<String, ? extends T> index) {
+            this.list = list;
+            this.index = index == null ? index(list) : index;
+        }
+
+        private void reindex() {
+            index = index(list);
+        }
+
+        @Nonnull
+        private static <T extends Named> Map<String, T> index(@Nonnull final List<T> list) {
+            Map<String, T> result = Maps.newHashMapWithExpectedSize(list.size());
+            for (T item : list) {
+                result.putIfAbsent(item.getName(), item);
+            }
+            return ImmutableMap.copyOf(result);
+        }
+
+        @Nullable
+        private T get(@Nonnull final String name) {
+            return index.get(name);
+        }
+
+        @Nonnull
+        @Override
+        public Iterator<T> iterator() {
+            return list.iterator();
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            if (o instanceof Named && index.get(((Named) o).getName()) == o) {
+                return true;
+            }
+            return list.contains(o);
+        }
+    }
 }
@@ -17,29 +17,76 @@
 
 package org.qubership.automation.configuration.dataset.excel.impl;
 
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.formula.eval.BlankEval;
+import org.apache.poi.ss.formula.eval.BoolEval;
+import org.apache.poi.ss.formula.eval.ErrorEval;
+import org.apache.poi.ss.formula.eval.NumberEval;
+import org.apache.poi.ss.formula.eval.StringEval;
+import org.apache.poi.ss.formula.eval.ValueEval;
+import org.apache.poi.ss.formula.eval.forked.ForkedEvaluator;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.CellValue;
+import org.apache.poi.ss.usermodel.FormulaError;
 import org.apache.poi.ss.usermodel.FormulaEvaluator;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.qubership.automation.configuration.dataset.excel.core.ReevaluateFormulas;
+import org.qubership.automation.configuration.dataset.excel.impl.morphcells.PropertyDescriptor;
 import org.qubership.automation.configuration.dataset.excel.impl.morphcells.PropertyDescriptors;
 import org.qubership.automation.configuration.dataset.excel.impl.morphcells.UniTypeCell;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
 import com.google.common.base.Throwables;
 import com.google.common.util.concurrent.Runnables;
 
 public class EvaluationContext {
 
     /**
-     * Workbook object.
+     * Logger.
      */
+    private static final Logger LOGGER = LoggerFactory.getLogger(EvaluationContext.class);
+
+    /**
+     * Pattern of volatile functions: their results can not be cached.
+     */
+    private static final Pattern VOLATILE_FUNCTIONS = Pattern.compile(
+            "\\b(NOW|TODAY|RAND|RANDBETWEEN|RANDARRAY|OFFSET|INDIRECT|INFO|CELL)\\s*\\(",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Maximum count of idle evaluators kept by a context for concurrent evaluation.
+     */
+    private static final int MAX_POOLED_EVALUATORS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Workbook object; null for streamed sources, which have no formulas to evaluate.
+     */
+    @Nullable
     private final Workbook wb;
 
+    /**
+     * Object to synchronize on; the workbook itself if it is present.
+     */
+    private final Object lock;
+
     /**
      * Runnable to perform context cleanup.
      */
@@ -65,6 +112,41 @@ public class EvaluationContext {
      */
     private FormulaEvaluator eval;
 
+    /**
+     * Pool of idle evaluators of concurrent evaluation; null if formulas are evaluated by the shared evaluator only.
+     * Evaluators are borrowed for one evaluation each, and are released together with the context.
+     */
+    @Nullable
+    private final BlockingQueue<LocalEvaluator> localEvaluators;
+
+    /**
+     * Lock of concurrent evaluation: evaluations share it, modifications of cells hold it exclusively.
+     */
+    @Nullable
+    private final ReadWriteLock evaluationLock;
+
+    /**
+     * Version of formulas cache; pooled evaluators clear their caches when it is changed.
+     */
+    private volatile long cacheVersion;
+
+    /**
+     * Overlays of the current threads; null if cells are modified in place only, see {@link #isOverlay()}.
+     */
+    @Nullable
+    private final ThreadLocal<Overlay> overlays;
+
+    /**
+     * Formula cells checked for volatility, see {@link #addVolatileCells(Iterable)};
+     * null if results cached in the file are not used.
+     */
+    @Nullable
+    private final Map<Cell, Boolean> volatileCells;
+
+    /**
+     * Count of modifications of cells in progress; cached results are not used while cells are modified.
+     */
+    private volatile int modifications;
 
     /**
      * Constructor.
@@ -73,10 +155,71 @@ public class EvaluationContext {
      * @param strategy Strategy of formulas re-evaluation.
      */
     public EvaluationContext(@Nonnull final Workbook wb, @Nonnull final ReevaluateFormulas strategy) {
+        this(wb, strategy, false);
+    }
+
+    /**
+     * Constructor.
+     * Concurrent evaluation is possible for workbooks without external links only;
+     * for others the flag is ignored.
+     *
+     * @param wb Workbook object
+     * @param strategy Strategy of formulas re-evaluation
+     * @param concurrent true to evaluate formulas concurrently, see {@link #isConcurrent()}.
+     */
+    public EvaluationContext(@Nonnull final Workbook wb, @Nonnull final ReevaluateFormulas strategy,
+                             final boolean concurrent) {
+        this(wb, strategy, concurrent, false);
+    }
+
+    /**
+     * Constructor.
+     * Concurrent evaluation is possible for workbooks without external links only;
+     * for others the flag is ignored.
+     *
+     * @param wb Workbook object
+     * @param strategy Strategy of formulas re-evaluation
+     * @param concurrent true to evaluate formulas concurrently, see {@link #isConcurrent()}
+     * @param overlay true to evaluate modifications of cells without applying them, see {@link #isOverlay()};
+     *                implies concurrent evaluation.
+     */
+    public EvaluationContext(@Nonnull final Workbook wb, @Nonnull final ReevaluateFormulas strategy,
+                             final boolean concurrent, final boolean overlay) {
         this.wb = wb;
+        this.lock = wb;
         this.strategy = strategy;
         this.cleanup = cleanupRunnable(strategy.evaluationContextCleanup, this);
         this.descriptors = PropertyDescriptors.get(wb);
+        boolean doConcurrent = (concurrent || overlay)
+                && strategy != ReevaluateFormulas.NEVER && strategy != ReevaluateFormulas.ONCE;
+        if (doConcurrent && Utils.hasExternalLinks(wb)) {
+            LOGGER.debug("Workbook [{}] has external links, formulas are evaluated by the shared evaluator", wb);
+            doConcurrent = false;
+        }
+        this.localEvaluators = doConcurrent ? new ArrayBlockingQueue<>(MAX_POOLED_EVALUATORS) : null;
+        this.evaluationLock = doConcurrent ? new ReentrantReadWriteLock() : null;
+        this.overlays = doConcurrent && overlay ? new ThreadLocal<>() : null;
+        this.volatileCells = strategy.useCachedResults ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Constructor for sources without workbook (streamed ones).
+     * Values of formula cells are taken from the cached results, so the evaluator is not available.
+     *
+     * @param descriptors PropertyDescriptors object
+     * @param strategy Strategy of formulas re-evaluation.
+     */
+    public EvaluationContext(@Nonnull final PropertyDescriptors descriptors,
+                             @Nonnull final ReevaluateFormulas strategy) {
+        this.wb = null;
+        this.lock = new Object();
+        this.strategy = strategy;
+        this.cleanup = cleanupRunnable(strategy.evaluationContextCleanup, this);
+        this.descriptors = descriptors;
+        this.localEvaluators = null;
+        this.evaluationLock = null;
+        this.overlays = null;
+        this.volatileCells = null;
     }
 
     /**
@@ -128,6 +271,10 @@ public class EvaluationContext {
      */
     @Nonnull
     public Object getCellValue(@Nonnull final Cell cell) {
+        final Overlay overlay = overlays == null ? null : overlays.get();
+        if (overlay != null && overlay.values.containsKey(cell)) {
+            return getOverlaidValue(cell, overlay.values.get(cell));
+        }
         synchronized (cell) {
             CellType cellType = cell.getCellType();
             if (cellType == CellType.FORMULA) {
@@ -135,10 +282,7 @@ public class EvaluationContext {
                 return new Object() {
                     @Override
                     public String toString() {
-                        synchronized (EvaluationContext.this) {
-                            cleanup.run();
-                            return getCellValue(evaluateFormulaCell(cell), cell).toString();
-                        }
+                        return evaluateToString(overlay, cell);
                     }
                 };
             } else {
@@ -147,6 +291,75 @@ public class EvaluationContext {
         }
     }
 
+    /**
+     * Get String value of Cell; the same as {@link #getCellValue(Cell)}.toString(),
+     * but no intermediate objects are created: formula is evaluated immediately.
+     *
+     * @param cell Cell object
+     * @return String value of Cell.
+     */
+    @Nonnull
+    public String getCellStringValue(@Nonnull final Cell cell) {
+        final Overlay overlay = overlays == null ? null : overlays.get();
+        if (overlay != null && overlay.values.containsKey(cell)) {
+            return getOverlaidValue(cell, overlay.values.get(cell)).toString();
+        }
+        synchronized (cell) {
+            CellType cellType = cell.getCellType();
+            if (cellType != CellType.FORMULA) {
+                return getCellStringValue(cellType, cell);
+            }
+        }
+        return evaluateToString(overlay, cell);
+    }
+
+    @Nonnull
+    private String evaluateToString(@Nullable final Overlay overlay, @Nonnull final Cell cell) {
+        if (overlay != null) {
+            return evaluateOverlaid(overlay, cell);
+        }
+        if (isCachedResultUsed(cell)) {
+            synchronized (cell) {
+                return getCellStringValue(cell.getCachedFormulaResultType(), cell);
+            }
+        }
+        if (localEvaluators != null) {
+            return evaluateConcurrently(cell);
+        }
+        synchronized (this) {
+            cleanup.run();
+            if (strategy.useCachedResults) {
+                // result is not written to the cell to keep its cached result intact
+                return toString(evaluate(cell), cell);
+            }
+            return getCellStringValue(evaluateFormulaCell(cell), cell);
+        }
+    }
+
+    /**
+     * List formula cells as volatile: their results cached in the file are never used,
+     * see {@link ReevaluateFormulas#CACHED}. Formulas with volatile functions (like NOW()) are detected automatically,
+     * but formulas depending on them should be listed.
+     *
+     * @param cells Iterable of formula cells.
+     * @throws IllegalStateException if the strategy does not use cached results.
+     */
+    public void addVolatileCells(@Nonnull final Iterable<Cell> cells) {
+        Preconditions.checkState(volatileCells != null, "Cached results of formulas are not used by [%s] strategy",
+                strategy);
+        for (Cell cell : cells) {
+            volatileCells.put(cell, Boolean.TRUE);
+        }
+    }
+
+    private boolean isCachedResultUsed(@Nonnull final Cell cell) {
+        if (volatileCells == null || modifications > 0 || !Utils.hasCachedResult(cell)) {
+            return false;
+        }
+        return !volatileCells.computeIfAbsent(cell,
+                key -> VOLATILE_FUNCTIONS.matcher(key.getCellFormula()).find());
+    }
+
     /**
      * Get Formula Evaluator; create it if not initialized yet.
      *
@@ -157,6 +370,9 @@ public class EvaluationContext {
         if (!initialized) {
             synchronized (this) {
                 if (!initialized) {
+                    if (wb == null) {
+                        throw new IllegalStateException("Formulas can not be evaluated without workbook");
+                    }
                     eval = wb.getCreationHelper().createFormulaEvaluator();
                     initialized = true;
                     return eval;
@@ -168,8 +384,14 @@ public class EvaluationContext {
 
     /**
      * Clear formulas cache.
+     * In concurrent mode caches of pooled evaluators are cleared before their next evaluations.
      */
     public void clearFormulasCache() {
+        if (localEvaluators != null) {
+            synchronized (this) {
+                cacheVersion++;
+            }
+        }
         if (!initialized) {
             return;
         }
@@ -179,13 +401,166 @@ public class EvaluationContext {
     }
 
     /**
-     * Execute callable synchronized for wb Workbook.
+     * Invalidate cached results of formulas depending on the cells, if the strategy
+     * {@link ReevaluateFormulas#notifyCellChanges notifies cell changes}.
+     * Should be invoked by the thread which changed the cells, see {@link #doExclusive(Supplier)}.
+     *
+     * @param cells changed cells.
+     */
+    public void notifyUpdateCells(@Nonnull final Iterable<Cell> cells) {
+        if (!strategy.notifyCellChanges) {
+            return;
+        }
+        if (localEvaluators != null) {
+            // cells are changed exclusively, so all evaluators are idle in the pool
+            synchronized (this) {
+                for (LocalEvaluator local : localEvaluators) {
+                    notifyUpdateCells(local.evaluator, cells);
+                }
+            }
+        } else if (initialized) {
+            synchronized (this) {
+                notifyUpdateCells(eval, cells);
+            }
+        }
+    }
+
+    private static void notifyUpdateCells(@Nonnull final FormulaEvaluator evaluator,
+                                          @Nonnull final Iterable<Cell> cells) {
+        for (Cell cell : cells) {
+            evaluator.notifyUpdateCell(cell);
+        }
+    }
+
+    /**
+     * Check if formulas are evaluated concurrently.
+     * In this mode each evaluation borrows an evaluator from the pool of the context,
+     * results are not written to cells,
+     * so evaluations in different threads do not block each other.
+     * Modifications of cells should be done by {@link #doExclusive(Supplier)}.
+     *
+     * @return true if formulas are evaluated concurrently.
+     */
+    public boolean isConcurrent() {
+        return localEvaluators != null;
+    }
+
+    /**
+     * Check if modifications of cells are evaluated as an overlay.
+     * In this mode new values of cells are not written to the workbook: they are kept per call,
+     * and formulas are evaluated by an evaluator forked from the workbook which consults them,
+     * see {@link #doOverlaid(Map, Supplier)}. So evaluations of different modifications run in parallel.
+     * Modifications which can not be overlaid (of formulas, for example) are applied and reverted
+     * by {@link #doExclusive(Supplier)} as usual.
+     *
+     * @return true if modifications of cells are evaluated as an overlay.
+     */
+    public boolean isOverlay() {
+        return overlays != null;
+    }
+
+    /**
+     * Get values of cells as if the cells given had new values, without modifying them.
+     * Values of cells got by {@link #getCellValue(Cell)} within the supplier reflect new values,
+     * even if they are converted to strings after the supplier is done.
+     * Only values of cells can be replaced, not formulas.
+     *
+     * @param values Map of cells to their new values, see
+     *               {@link org.qubership.automation.configuration.dataset.excel.impl.morphcells.Changelist#getNewValues()}
+     * @param supplier Supplier which gets values
+     * @return &lt;V&gt; object.
+     * @throws UnsupportedOperationException if some of the cells given contain formulas.
+     */
+    public <V> V doOverlaid(@Nonnull final Map<Cell, ?> values, @Nonnull final Supplier<V> supplier) {
+        Preconditions.checkState(overlays != null, "Overlay evaluation is not enabled");
+        for (Cell cell : values.keySet()) {
+            if (cell.getCellType() == CellType.FORMULA) {
+                throw new UnsupportedOperationException(String.format(
+                        "Formula in cell [%s] on sheet [%s] can not be replaced by overlay",
+                        cell.getAddress(), Utils.getSheetName(cell)));
+            }
+        }
+        Overlay previous = overlays.get();
+        overlays.set(new Overlay(values));
+        try {
+            return doShared(supplier);
+        } finally {
+            if (previous == null) {
+                overlays.remove();
+            } else {
+                overlays.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Get values of cells: synchronized on this context, or without locking if formulas are evaluated concurrently.
+     *
+     * @param supplier Supplier which gets values
+     * @return &lt;V&gt; object.
+     */
+    public <V> V doShared(@Nonnull final Supplier<V> supplier) {
+        if (localEvaluators != null) {
+            return supplier.get();
+        }
+        synchronized (this) {
+            return supplier.get();
+        }
+    }
+
+    /**
+     * Modify cells and get values: synchronized on this context.
+     * If formulas are evaluated concurrently, other evaluations wait until the supplier is done,
+     * and caches of all evaluators are cleared before and after that,
+     * unless the strategy {@link ReevaluateFormulas#notifyCellChanges notifies cell changes}.
+     *
+     * @param supplier Supplier which modifies cells and gets values
+     * @return &lt;V&gt; object.
+     */
+    public <V> V doExclusive(@Nonnull final Supplier<V> supplier) {
+        if (evaluationLock == null) {
+            synchronized (this) {
+                return doModifying(supplier);
+            }
+        }
+        Lock writeLock = evaluationLock.writeLock();
+        writeLock.lock();
+        try {
+            if (!strategy.notifyCellChanges) {
+                clearFormulasCache();
+            }
+            synchronized (this) {
+                return doModifying(supplier);
+            }
+        } finally {
+            if (!strategy.notifyCellChanges) {
+                clearFormulasCache();
+            }
+            writeLock.unlock();
+        }
+    }
+
+    private <V> V doModifying(@Nonnull final Supplier<V> supplier) {
+        if (volatileCells == null) {
+            return supplier.get();
+        }
+        // invoked under the lock of this context
+        modifications++;
+        try {
+            return supplier.get();
+        } finally {
+            modifications--;
+        }
+    }
+
+    /**
+     * Execute callable synchronized for wb Workbook (or for the internal lock if there is no workbook).
      *
      * @param callable Callable object to execute
      * @return &lt;V&gt; object.
      */
     public <V> V doThreadSafeUnchecked(@Nonnull final Callable<V> callable) {
-        synchronized (wb) {
+        synchronized (lock) {
             try {
                 return callable.call();
             } catch (Exception e) {
@@ -203,7 +578,7 @@ public class EvaluationContext {
      * @throws Exception in case execution errors occurred.
      */
     public <V> V doThreadSafe(@Nonnull final Callable<V> callable) throws Exception {
-        synchronized (wb) {
+        synchronized (lock) {
             return callable.call();
         }
     }
@@ -214,17 +589,156 @@ public class EvaluationContext {
      * @param runnable Runnable object to execute.
      */
     public void doThreadSafe(@Nonnull final Runnable runnable) {
-        synchronized (wb) {
+        synchronized (lock) {
             runnable.run();
         }
     }
 
+    @Nonnull
+    private LocalEvaluator createLocalEvaluator() {
+        return new LocalEvaluator(wb.getCreationHelper().createFormulaEvaluator(), cacheVersion);
+    }
+
+    @Nonnull
+    private String evaluateConcurrently(@Nonnull final Cell cell) {
+        Lock readLock = evaluationLock.readLock();
+        LocalEvaluator local = null;
+        readLock.lock();
+        try {
+            local = localEvaluators.poll();
+            if (local == null) {
+                local = createLocalEvaluator();
+            }
+            long version = cacheVersion;
+            if (strategy.evaluationContextCleanup || local.version != version) {
+                local.evaluator.clearAllCachedResultValues();
+                local.version = version;
+            }
+            CellValue value;
+            try {
+                value = local.evaluator.evaluate(cell);
+            } catch (Exception e) {
+                throw new RuntimeException(String.format("Can not evaluate formula in cell [%s] on sheet [%s]",
+                        cell.getAddress(), Utils.getSheetName(cell)), e);
+            }
+            return toString(value, cell);
+        } finally {
+            if (local != null) {
+                // evaluators above the limit are dropped
+                localEvaluators.offer(local);
+            }
+            readLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    private Object getOverlaidValue(@Nonnull final Cell cell, @Nullable final Object value) {
+        return value == null ? StringUtils.EMPTY : getDescriptors().forCell(cell).toString(value, cell);
+    }
+
+    @Nonnull
+    private String evaluateOverlaid(@Nonnull final Overlay overlay, @Nonnull final Cell cell) {
+        Lock readLock = evaluationLock.readLock();
+        readLock.lock();
+        try {
+            ValueEval value;
+            synchronized (overlay) {
+                try {
+                    value = overlay.evaluator().evaluate(Utils.getSheetName(cell), cell.getRowIndex(),
+                            cell.getColumnIndex());
+                } catch (Exception e) {
+                    throw new RuntimeException(String.format("Can not evaluate formula in cell [%s] on sheet [%s]",
+                            cell.getAddress(), Utils.getSheetName(cell)), e);
+                }
+            }
+            return toString(toCellValue(value), cell);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Nullable
+    private static CellValue toCellValue(@Nullable final ValueEval value) {
+        if (value == null || value instanceof BlankEval) {
+            return null;
+        }
+        if (value instanceof NumberEval) {
+            return new CellValue(((NumberEval) value).getNumberValue());
+        }
+        if (value instanceof StringEval) {
+            return new CellValue(((StringEval) value).getStringValue());
+        }
+        if (value instanceof BoolEval) {
+            return CellValue.valueOf(((BoolEval) value).getBooleanValue());
+        }
+        if (value instanceof ErrorEval) {
+            return CellValue.getError(((ErrorEval) value).getErrorCode());
+        }
+        throw new IllegalArgumentException("Unexpected result of evaluation: " + value);
+    }
+
+    @Nonnull
+    private static ValueEval toValueEval(@Nullable final Object value) {
+        if (value == null) {
+            return BlankEval.instance;
+        }
+        if (value instanceof Double) {
+            return new NumberEval((Double) value);
+        }
+        if (value instanceof String) {
+            return new StringEval((String) value);
+        }
+        if (value instanceof Boolean) {
+            return BoolEval.valueOf((Boolean) value);
+        }
+        if (value instanceof Byte) {
+            return ErrorEval.valueOf((Byte) value);
+        }
+        throw new IllegalArgumentException("Unexpected value of cell: " + value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    private String toString(@Nullable final CellValue value, @Nonnull final Cell cell) {
+        CellType cellType = value == null ? CellType.BLANK : value.getCellType();
+        switch (cellType) {
+            case STRING:
+                return value.getStringValue();
+            case NUMERIC:
+                return ((PropertyDescriptor<Double>) getDescriptors().forCell(cellType, cell))
+                        .toString(value.getNumberValue(), cell);
+            case BOOLEAN:
+                return Boolean.toString(value.getBooleanValue());
+            case BLANK:
+                return StringUtils.EMPTY;
+            default:
+                throw new IllegalArgumentException(
+                        String.format("Can not evaluate formula [%s] in cell [%s] on sheet [%s]",
+                                cellType == CellType.ERROR
+                                        ? FormulaError.forInt(value.getErrorValue()).getString()
+                                        : null,
+                                cell.getAddress(),
+                                Utils.getSheetName(cell)));
+        }
+    }
+
+    @Nonnull
+    private CellValue evaluate(@Nonnull final Cell cell) {
+        try {
+            return evaluator().evaluate(cell);
+        } catch (Exception e) {
+            throw new RuntimeException(String.format("Can not evaluate formula in cell [%s] on sheet [%s]",
+                    cell.getAddress(), Utils.getSheetName(cell)), e);
+        }
+    }
+
     private CellType evaluateFormulaCell(@Nonnull final Cell cell) {
         try {
             return evaluator().evaluateFormulaCell(cell);
         } catch (Exception e) {
             throw new RuntimeException(String.format("Can not evaluate formula in cell [%s] on sheet [%s]",
-                    cell.getAddress(), cell.getSheet().getSheetName()), e);
+                    cell.getAddress(), Utils.getSheetName(cell)), e);
         }
     }
 
@@ -256,7 +770,7 @@ public class EvaluationContext {
                         String.format("Can not evaluate formula [%s] in cell [%s] on sheet [%s]",
                                 getDescriptors().forCell(cellType, cell).getToString(cell),
                                 cell.getAddress(),
-                                cell.getSheet().getSheetName()));
+                                Utils.getSheetName(cell)));
             case BLANK:
                 return StringUtils.EMPTY;
             default:
@@ -264,4 +778,65 @@ public class EvaluationContext {
                 return new UniTypeCell<>(getDescriptors().forCell(cellType, cell), cell);
         }
     }
+
+    @Nonnull
+    private String getCellStringValue(final CellType cellType, @Nonnull final Cell cell) {
+        if (cellType == CellType.BLANK) {
+            return StringUtils.EMPTY;
+        }
+        if (cellType == CellType._NONE || cellType == CellType.ERROR) {
+            // throws the same exception as getCellValue does
+            return getCellValue(cellType, cell).toString();
+        }
+        return Strings.nullToEmpty(getDescriptors().forCell(cellType, cell).getToString(cell));
+    }
+
+    private static class LocalEvaluator {
+
+        /**
+         * Formula evaluator borrowed by one evaluation at a time.
+         */
+        private final FormulaEvaluator evaluator;
+
+        /**
+         * Version of formulas cache the evaluator cache corresponds to.
+         */
+        private long version;
+
+        private LocalEvaluator(@Nonnull final FormulaEvaluator evaluator, final long version) {
+            this.evaluator = evaluator;
+            this.version = version;
+        }
+    }
+
+    private class Overlay {
+
+        /**
+         * New values of cells.
+         */
+        private final Map<Cell, ?> values;
+
+        /**
+         * Evaluator forked from the workbook with new values of cells; created on the first evaluation.
+         */
+        private ForkedEvaluator evaluator;
+
+        private Overlay(@Nonnull final Map<Cell, ?> values) {
+            this.values = values;
+        }
+
+        @Nonnull
+        private ForkedEvaluator evaluator() {
+            if (evaluator == null) {
+                ForkedEvaluator forked = ForkedEvaluator.create(wb, null, null);
+                for (Map.Entry<Cell, ?> entry : values.entrySet()) {
+                    Cell cell = entry.getKey();
+                    forked.updateCell(Utils.getSheetName(cell), cell.getRowIndex(), cell.getColumnIndex(),
+                            toValueEval(entry.getValue()));
+                }
+                evaluator = forked;
+            }
+            return evaluator;
+        }
+    }
 }
@@ -35,8 +35,14 @@ import javax.annotation.Nullable;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.model.ExternalLinksTable;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.qubership.automation.configuration.dataset.excel.core.ParamsEntryConverter;
 import org.qubership.automation.configuration.dataset.excel.core.VarsEntryConverter;
+import org.qubership.automation.configuration.dataset.excel.impl.streaming.StreamingCell;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
@@ -115,7 +121,7 @@ public class Utils {
     @Nonnull
     public static Predicate<Cell> statefulHeaderPredicate(@Nonnull final Iterable<String> accepted,
                                                           @Nonnull final EvaluationContext evaluator) {
-        return input -> Iterables.contains(accepted, evaluator.getCellValue(input).toString());
+        return input -> Iterables.contains(accepted, evaluator.getCellStringValue(input));
     }
 
     /**
@@ -150,6 +156,65 @@ public class Utils {
         );
     }
 
+    /**
+     * Get name of the sheet the cell belongs to.
+     * Streamed cells have no sheet object, so the name is taken from the cell itself.
+     *
+     * @param cell Cell object
+     * @return String sheet name.
+     */
+    @Nonnull
+    public static String getSheetName(@Nonnull final Cell cell) {
+        if (cell instanceof StreamingCell) {
+            return ((StreamingCell) cell).getSheetName();
+        }
+        return cell.getSheet().getSheetName();
+    }
+
+    /**
+     * Check if the cell contains a formula.
+     * Streamed cells report cached result type as their type, so the check is delegated to the cell itself.
+     *
+     * @param cell Cell object
+     * @return true if the cell contains a formula.
+     */
+    public static boolean isFormula(@Nonnull final Cell cell) {
+        if (cell instanceof StreamingCell) {
+            return ((StreamingCell) cell).isFormula();
+        }
+        return cell.getCellType() == CellType.FORMULA;
+    }
+
+    /**
+     * Check if the formula cell has a result cached in the file.
+     * Cells of xlsx workbooks have no cached result if the file is written by a tool which does not evaluate formulas;
+     * other cells always have it.
+     *
+     * @param cell Cell object of formula
+     * @return true if the cached result is present.
+     */
+    public static boolean hasCachedResult(@Nonnull final Cell cell) {
+        if (cell instanceof XSSFCell) {
+            return ((XSSFCell) cell).getCTCell().isSetV();
+        }
+        return true;
+    }
+
+    /**
+     * Check if formulas of the workbook may refer other workbooks.
+     *
+     * @param wb Workbook object
+     * @return true if the workbook has external links; always true for non-xlsx workbooks.
+     */
+    public static boolean hasExternalLinks(@Nonnull final Workbook wb) {
+        if (!(wb instanceof XSSFWorkbook)) {
+            return true;
+        }
+        // the table is null for workbooks created in memory
+        List<ExternalLinksTable> links = ((XSSFWorkbook) wb).getExternalLinksTable();
+        return links != null && !links.isEmpty();
+    }
+
     /**
      * Function to make list of Params.
      *
@@ -207,7 +272,11 @@ public class Utils {
     /**
      * Assumes, that connected parent iterator routes some items to the {@link Function#apply(Object)} method after
      * invoking its {@link Iterator#next()}. Acts like a collector with an ability to ask its parent for a value.
+     *
+     * @deprecated not used by the library any more: datasets read their columns from {@link ColumnarStore},
+     *     which is filled by a single pass over the data rows.
      */
+    @Deprecated
     public static class CachingIterator<T> extends AbstractIterator<T> implements Consumer<T> {
 
         /**
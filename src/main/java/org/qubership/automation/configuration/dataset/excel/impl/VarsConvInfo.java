@@ -44,6 +44,11 @@ public class VarsConvInfo<Param> {
      */
     public final Cell var;
 
+    /**
+     * Dataset Cell variable object kept to be reused; null if it is made on each access.
+     */
+    public final DSCell varCell;
+
     /**
      * Constructor.
      *
@@ -56,9 +61,27 @@ public class VarsConvInfo<Param> {
                         @Nonnull final DSCell param,
                         @Nonnull final Param convertedParam,
                         @Nonnull final Cell var) {
+        this(entity, param, convertedParam, var, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param entity Dataset Cell entity object
+     * @param param Dataset Cell parameter object
+     * @param convertedParam Converted Param object
+     * @param var Cell variable object
+     * @param varCell Dataset Cell variable object to be reused.
+     */
+    public VarsConvInfo(@Nullable final DSCell entity,
+                        @Nonnull final DSCell param,
+                        @Nonnull final Param convertedParam,
+                        @Nonnull final Cell var,
+                        @Nullable final DSCell varCell) {
         this.entity = entity;
         this.param = param;
         this.convertedParam = convertedParam;
         this.var = var;
+        this.varCell = varCell;
     }
 }
@@ -18,6 +18,7 @@
 package org.qubership.automation.configuration.dataset.excel.impl.morphcells;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.poi.ss.usermodel.Cell;
 
@@ -47,6 +48,27 @@ public abstract class Change {
      */
     public abstract void revert();
 
+    /**
+     * Check if the change is a replacement of the cell value, so it provides {@link #getNewValue()}.
+     *
+     * @return false by default.
+     */
+    public boolean isReplacement() {
+        return false;
+    }
+
+    /**
+     * Get value the change sets to the target cell, so the change can be evaluated without applying it.
+     *
+     * @return Object new value of the cell, of the type of its {@link PropertyDescriptor}; null for blank value
+     * @throws UnsupportedOperationException if the change is not a replacement of the cell value,
+     *                                       see {@link #isReplacement()}.
+     */
+    @Nullable
+    public Object getNewValue() {
+        throw new UnsupportedOperationException("Change [" + this + "] does not provide new value");
+    }
+
     /**
      * Get Cell target of the Change.
      *
@@ -19,8 +19,11 @@ package org.qubership.automation.configuration.dataset.excel.impl.morphcells;
 
 import java.time.LocalDateTime;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -40,6 +43,7 @@ import org.apache.poi.ss.util.CellRangeAddress;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.MultimapBuilder;
 
@@ -550,6 +554,53 @@ public class Changelist implements Cell {
         }
     }
 
+    /**
+     * Get cells changed by the changelist.
+     *
+     * @return Set of target cells of changes.
+     */
+    @Nonnull
+    public Set<Cell> getChangedCells() {
+        return changes == null ? Collections.emptySet() : changes.keySet();
+    }
+
+    /**
+     * Check if the changes can be evaluated without applying them, see {@link #getNewValues()}:
+     * all of them are replacements of values of cells which do not contain formulas.
+     *
+     * @return true if new values of changed cells can be overlaid.
+     */
+    public boolean canOverlay() {
+        if (changes == null) {
+            return true;
+        }
+        for (Change change : changes.values()) {
+            if (!change.isReplacement() || change.getTarget().getCellType() == CellType.FORMULA) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get new values of changed cells, without applying the changes.
+     * If there are several changes of a cell, the value is taken the same way as if they were applied.
+     *
+     * @return Map of target cells to their new values, see {@link Change#getNewValue()}; null values are blank ones.
+     * @throws UnsupportedOperationException if some of changes are not replacements, see {@link #canOverlay()}.
+     */
+    @Nonnull
+    public Map<Cell, Object> getNewValues() {
+        if (changes == null) {
+            return Collections.emptyMap();
+        }
+        Map<Cell, Object> result = Maps.newHashMap();
+        for (Change change : changes.values()) {
+            result.put(change.getTarget(), change.getNewValue());
+        }
+        return result;
+    }
+
     /**
      * Revert all changes.
      */
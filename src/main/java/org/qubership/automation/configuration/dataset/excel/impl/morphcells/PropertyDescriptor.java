@@ -17,9 +17,20 @@
 
 package org.qubership.automation.configuration.dataset.excel.impl.morphcells;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
@@ -31,32 +42,44 @@ import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.usermodel.FormulaError;
-import org.apache.poi.util.LocaleUtil;
 import org.qubership.automation.configuration.dataset.excel.impl.Utils;
 
-public abstract class PropertyDescriptor<T> {
+import com.google.common.collect.Lists;
 
-    /**
-     * Data Formatter for Locale.US.
-     */
-    private static final DataFormatter FORMATTER = new DataFormatter(Locale.US);
+public abstract class PropertyDescriptor<T> {
 
     /**
      * Date Formatter for "yyyy-MM-dd HH:mm:ss" pattern and Locale.US.
+     * Parses leniently, as SimpleDateFormat did: fields may be of any width ("2020-1-5 3:4:5")
+     * and out of range values are rolled over. The text after seconds (milliseconds, zone) is ignored.
      */
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.US);
+    private static final DateTimeFormatter DATE_FORMAT = new DateTimeFormatterBuilder()
+            .parseLenient()
+            .appendValue(ChronoField.YEAR, 1, 10, SignStyle.NORMAL)
+            .appendLiteral('-')
+            .appendValue(ChronoField.MONTH_OF_YEAR, 1, 2, SignStyle.NORMAL)
+            .appendLiteral('-')
+            .appendValue(ChronoField.DAY_OF_MONTH, 1, 2, SignStyle.NORMAL)
+            .appendLiteral(' ')
+            .appendValue(ChronoField.HOUR_OF_DAY, 1, 2, SignStyle.NORMAL)
+            .appendLiteral(':')
+            .appendValue(ChronoField.MINUTE_OF_HOUR, 1, 2, SignStyle.NORMAL)
+            .appendLiteral(':')
+            .appendValue(ChronoField.SECOND_OF_MINUTE, 1, 2, SignStyle.NORMAL)
+            .toFormatter(Locale.US)
+            .withResolverStyle(ResolverStyle.LENIENT);
 
     /**
      * Numeric Supplier for Windows.
      */
     protected static Supplier<Numeric> NUMERIC_WIN = Utils.memoize(
-            () -> new Numeric(false, FORMATTER, DATE_FORMAT));
+            () -> new Numeric(false, Locale.US, DATE_FORMAT));
 
     /**
      * Numeric Supplier for MacOs.
      */
     protected static Supplier<Numeric> NUMERIC_MAC = Utils.memoize(
-            () -> new Numeric(true, FORMATTER, DATE_FORMAT));
+            () -> new Numeric(true, Locale.US, DATE_FORMAT));
 
     /**
      * Property Descriptor for String.
@@ -312,9 +335,15 @@ public abstract class PropertyDescriptor<T> {
     }
 
     /**
+     * <pre>
      * when {@link DateUtil#isCellDateFormatted(org.apache.poi.ss.usermodel.Cell)}.
      * Date is used instead of Double because no acceptable way to get use1904Windowing for
      * {@link DataFormatter#formatRawCellContents(double, int, java.lang.String, boolean)} found.
+     *
+     * Thread-safe without locking: dates are parsed and, for simple date formats, rendered by immutable
+     * {@link DateTimeFormatter}s compiled once per format; other values are rendered by per-thread
+     * {@link DataFormatter}s, which cache their formats too.
+     * </pre>
      */
     public static class Numeric extends PropertyDescriptor<Double> {
 
@@ -324,29 +353,41 @@ public abstract class PropertyDescriptor<T> {
         private final boolean isStartDate1904;
 
         /**
-         * DataFormatter object.
+         * Locale of formats.
+         */
+        private final Locale locale;
+
+        /**
+         * DataFormatters of threads.
          */
-        private final DataFormatter formatter;
+        private final ThreadLocal<DataFormatter> formatters;
 
         /**
-         * SimpleDateFormatter object.
+         * Date formatters compiled from cell formats; empty if the format can not be compiled.
+         * Keyed by format strings: the same index may refer different custom formats in different workbooks.
          */
-        private final SimpleDateFormat dformat;
+        private final Map<String, Optional<DateTimeFormatter>> dateFormats = new ConcurrentHashMap<>();
+
+        /**
+         * DateTimeFormatter to parse dates.
+         */
+        private final DateTimeFormatter dformat;
 
         /**
          * Constructor.
          *
          * @param isStartDate1904 flag if date starts at 1904 or not
-         * @param formatter DataFormatter object
-         * @param dformat SimpleDateFormat object.
+         * @param locale Locale of formats
+         * @param dformat DateTimeFormatter to parse dates.
          */
         public Numeric(final boolean isStartDate1904,
-                       @Nonnull final DataFormatter formatter,
-                       @Nonnull final SimpleDateFormat dformat) {
+                       @Nonnull final Locale locale,
+                       @Nonnull final DateTimeFormatter dformat) {
             super(Double.class);
             this.isStartDate1904 = isStartDate1904;
-            this.formatter = formatter;
-            this.dformat = (SimpleDateFormat) dformat.clone(); // to be able to manipulate timezones
+            this.locale = locale;
+            this.formatters = ThreadLocal.withInitial(() -> new DataFormatter(locale));
+            this.dformat = dformat;
         }
 
         /**
@@ -372,9 +413,10 @@ public abstract class PropertyDescriptor<T> {
             if (DateUtil.isCellDateFormatted(cell)) {
                 //str must be a date
                 try {
-                    dformat.setTimeZone(LocaleUtil.getUserTimeZone());
-                    return DateUtil.getExcelDate(dformat.parse(str), isStartDate1904);
-                } catch (ParseException e) {
+                    // parsed from the beginning only, the rest of the text is ignored as SimpleDateFormat did
+                    TemporalAccessor parsed = dformat.parse(str, new ParsePosition(0));
+                    return DateUtil.getExcelDate(LocalDateTime.from(parsed), isStartDate1904);
+                } catch (DateTimeException e) {
                     throw new RuntimeException("Can not parse date from [" + str + "] using [" + dformat + "]", e);
                 }
             } else {
@@ -397,7 +439,95 @@ public abstract class PropertyDescriptor<T> {
             CellStyle style = cell.getCellStyle();
             short df = style.getDataFormat();
             String dfs = style.getDataFormatString();
-            return formatter.formatRawCellContents(value, df, dfs, isStartDate1904);
+            if (dfs != null && DateUtil.isValidExcelDate(value) && DateUtil.isADateFormat(df, dfs)) {
+                Optional<DateTimeFormatter> dateFormat = dateFormats.computeIfAbsent(dfs,
+                        key -> Optional.ofNullable(compileDateFormat(key, locale)));
+                if (dateFormat.isPresent()) {
+                    return dateFormat.get().format(DateUtil.getLocalDateTime(value, isStartDate1904));
+                }
+            }
+            return formatters.get().formatRawCellContents(value, df, dfs, isStartDate1904);
+        }
+
+        /**
+         * Compile simple date format of cell: days, months, years, hours, minutes and seconds
+         * with separators between them. Other formats (AM/PM, elapsed time, fractions of seconds,
+         * literals, locales and colors) are left to {@link DataFormatter}.
+         * Month and minute are distinguished like Excel does: 'm' after hours or before seconds means minutes.
+         *
+         * @param format String format of cell
+         * @param locale Locale of formats
+         * @return DateTimeFormatter or null if the format is not simple.
+         */
+        @Nullable
+        static DateTimeFormatter compileDateFormat(@Nonnull final String format, @Nonnull final Locale locale) {
+            List<String> tokens = Lists.newArrayList();
+            for (int idx = 0; idx < format.length();) {
+                char ch = format.charAt(idx);
+                int end = idx + 1;
+                if ("ymdhs".indexOf(ch) >= 0) {
+                    while (end < format.length() && format.charAt(end) == ch) {
+                        end++;
+                    }
+                } else if (" -/.:,".indexOf(ch) < 0) {
+                    return null;
+                }
+                tokens.add(format.substring(idx, end));
+                idx = end;
+            }
+            StringBuilder pattern = new StringBuilder();
+            for (int idx = 0; idx < tokens.size(); idx++) {
+                String token = tokens.get(idx);
+                String converted;
+                switch (token.charAt(0)) {
+                    case 'y':
+                        converted = token.length() == 2 ? "yy" : token.length() == 4 ? "yyyy" : null;
+                        break;
+                    case 'm':
+                        if (isMinute(tokens, idx)) {
+                            converted = token.length() <= 2 ? token : null;
+                        } else {
+                            converted = token.length() <= 4 ? token.toUpperCase(Locale.ROOT) : null;
+                        }
+                        break;
+                    case 'd':
+                        converted = token.length() <= 2 ? token
+                                : token.length() == 3 ? "EEE" : token.length() == 4 ? "EEEE" : null;
+                        break;
+                    case 'h':
+                        converted = token.length() <= 2 ? token.toUpperCase(Locale.ROOT) : null;
+                        break;
+                    case 's':
+                        converted = token.length() <= 2 ? token : null;
+                        break;
+                    default:
+                        converted = token;
+                }
+                if (converted == null) {
+                    return null;
+                }
+                pattern.append(converted);
+            }
+            return pattern.length() == 0 ? null : DateTimeFormatter.ofPattern(pattern.toString(), locale);
+        }
+
+        private static boolean isMinute(@Nonnull final List<String> tokens, final int idx) {
+            for (int prev = idx - 1; prev >= 0; prev--) {
+                char ch = tokens.get(prev).charAt(0);
+                if (Character.isLetter(ch)) {
+                    if (ch == 'h') {
+                        return true;
+                    }
+                    break;
+                }
+            }
+            for (int next = idx + 1; next < tokens.size(); next++) {
+                char ch = tokens.get(next).charAt(0);
+                if (Character.isLetter(ch)) {
+                    return ch == 's';
+                }
+            }
+            return false;
         }
 
         /**
@@ -110,6 +110,17 @@ public class PropertyDescriptors {
         return new PropertyDescriptors(isStartDate1904(wb));
     }
 
+    /**
+     * Get PropertyDescriptors for the Date starting point given.
+     *
+     * @param isStartDate1904 Flag if Date starting point is 1904
+     * @return a new PropertyDescriptors object.
+     */
+    @Nonnull
+    public static PropertyDescriptors get(final boolean isStartDate1904) {
+        return new PropertyDescriptors(isStartDate1904);
+    }
+
     /**
      * Get isStartDate1904 flag of wb Workbook given.
      *
@@ -187,6 +198,17 @@ public class PropertyDescriptors {
                 descriptor.setValue(getTarget(), origValue);
             }
 
+            @Override
+            public boolean isReplacement() {
+                return true;
+            }
+
+            @Nullable
+            @Override
+            public Object getNewValue() {
+                return newValue == null ? null : descriptor.fromString(newValue, getTarget());
+            }
+
             @Override
             public String toString() {
                 return String.format("Replace value change from [%s] to [%s] for [%s]", origValue, newValue,
@@ -222,6 +244,17 @@ public class PropertyDescriptors {
                 descriptor.setValue(getTarget(), origValue);
             }
 
+            @Override
+            public boolean isReplacement() {
+                return true;
+            }
+
+            @Nonnull
+            @Override
+            public Object getNewValue() {
+                return newValueTypeSafe;
+            }
+
             @Override
             public String toString() {
                 return String.format("Replace value change from [%s] to [%s] for [%s]", origValue, newValueTypeSafe,
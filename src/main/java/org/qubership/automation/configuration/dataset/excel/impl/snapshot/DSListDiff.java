@@ -0,0 +1,241 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.snapshot;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * <pre>
+ * Difference between two snapshots of the same DSList.
+ * Datasets and parameters are matched by names; changed values are reported
+ * for datasets and parameters existing in both snapshots only.
+ * </pre>
+ */
+public final class DSListDiff {
+
+    /**
+     * DSList name.
+     */
+    private final String name;
+
+    /**
+     * Names of datasets added.
+     */
+    private final ImmutableList<String> addedDataSets;
+
+    /**
+     * Names of datasets removed.
+     */
+    private final ImmutableList<String> removedDataSets;
+
+    /**
+     * Names of parameters added.
+     */
+    private final ImmutableList<String> addedParameters;
+
+    /**
+     * Names of parameters removed.
+     */
+    private final ImmutableList<String> removedParameters;
+
+    /**
+     * Dataset name to names of its parameters whose values are changed.
+     */
+    private final ImmutableMap<String, ImmutableSet<String>> changedValues;
+
+    private DSListDiff(@Nonnull final String name,
+                       @Nonnull final List<String> addedDataSets,
+                       @Nonnull final List<String> removedDataSets,
+                       @Nonnull final List<String> addedParameters,
+                       @Nonnull final List<String> removedParameters,
+                       @Nonnull final Map<String, ImmutableSet<String>> changedValues) {
+        this.name = name;
+        this.addedDataSets = ImmutableList.copyOf(addedDataSets);
+        this.removedDataSets = ImmutableList.copyOf(removedDataSets);
+        this.addedParameters = ImmutableList.copyOf(addedParameters);
+        this.removedParameters = ImmutableList.copyOf(removedParameters);
+        this.changedValues = ImmutableMap.copyOf(changedValues);
+    }
+
+    /**
+     * Compare snapshots of the same DSList.
+     *
+     * @param before DSListSnapshot before the change
+     * @param after DSListSnapshot after the change
+     * @return DSListDiff object; empty if snapshots are equal.
+     */
+    @Nonnull
+    public static DSListDiff of(@Nonnull final DSListSnapshot before, @Nonnull final DSListSnapshot after) {
+        Map<String, ImmutableSet<String>> changedValues = Maps.newLinkedHashMap();
+        if (before != after) {
+            for (int dsIdx = 0; dsIdx < after.getDataSetsCount(); dsIdx++) {
+                String dataSet = after.getDataSet(dsIdx);
+                int beforeDsIdx = before.getDataSetIndex(dataSet);
+                if (beforeDsIdx < 0) {
+                    continue;
+                }
+                ImmutableSet.Builder<String> changed = ImmutableSet.builder();
+                boolean hasChanges = false;
+                for (int paramIdx = 0; paramIdx < after.getParametersCount(); paramIdx++) {
+                    String parameter = after.getParameter(paramIdx);
+                    int beforeParamIdx = before.getParameterIndex(parameter);
+                    if (beforeParamIdx >= 0 && !Objects.equal(before.getValue(beforeDsIdx, beforeParamIdx),
+                            after.getValue(dsIdx, paramIdx))) {
+                        changed.add(parameter);
+                        hasChanges = true;
+                    }
+                }
+                if (hasChanges) {
+                    changedValues.put(dataSet, changed.build());
+                }
+            }
+        }
+        return new DSListDiff(after.getName(),
+                missing(after.getDataSets(), before), missing(before.getDataSets(), after),
+                missingParameters(after, before), missingParameters(before, after), changedValues);
+    }
+
+    @Nonnull
+    private static List<String> missing(@Nonnull final List<String> dataSets, @Nonnull final DSListSnapshot in) {
+        List<String> result = Lists.newArrayList();
+        for (String dataSet : dataSets) {
+            if (in.getDataSetIndex(dataSet) < 0) {
+                result.add(dataSet);
+            }
+        }
+        return result;
+    }
+
+    @Nonnull
+    private static List<String> missingParameters(@Nonnull final DSListSnapshot from,
+                                                  @Nonnull final DSListSnapshot in) {
+        List<String> result = Lists.newArrayList();
+        for (String parameter : from.getParameters()) {
+            if (in.getParameterIndex(parameter) < 0) {
+                result.add(parameter);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get DSList name.
+     *
+     * @return String name.
+     */
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get names of datasets added.
+     *
+     * @return List of dataset names.
+     */
+    @Nonnull
+    public List<String> getAddedDataSets() {
+        return addedDataSets;
+    }
+
+    /**
+     * Get names of datasets removed.
+     *
+     * @return List of dataset names.
+     */
+    @Nonnull
+    public List<String> getRemovedDataSets() {
+        return removedDataSets;
+    }
+
+    /**
+     * Get names of parameters added.
+     *
+     * @return List of parameter names.
+     */
+    @Nonnull
+    public List<String> getAddedParameters() {
+        return addedParameters;
+    }
+
+    /**
+     * Get names of parameters removed.
+     *
+     * @return List of parameter names.
+     */
+    @Nonnull
+    public List<String> getRemovedParameters() {
+        return removedParameters;
+    }
+
+    /**
+     * Get changed values: for each dataset existing before and after the change,
+     * names of parameters whose values are changed. Datasets without changes are not included.
+     *
+     * @return Map of dataset name to parameter names.
+     */
+    @Nonnull
+    public Map<String, ? extends Set<String>> getChangedValues() {
+        return changedValues;
+    }
+
+    /**
+     * Get names of parameters whose values are changed in the dataset.
+     *
+     * @param dataSet String dataset name
+     * @return Set of parameter names; null if values of the dataset are not changed.
+     */
+    @Nullable
+    public Set<String> getChangedParameters(@Nonnull final String dataSet) {
+        return changedValues.get(dataSet);
+    }
+
+    /**
+     * Check if there are no changes.
+     *
+     * @return true if snapshots are equal.
+     */
+    public boolean isEmpty() {
+        return addedDataSets.isEmpty() && removedDataSets.isEmpty() && addedParameters.isEmpty()
+                && removedParameters.isEmpty() && changedValues.isEmpty();
+    }
+
+    /**
+     * Make String representation of the object.
+     *
+     * @return String representation of the object.
+     */
+    @Override
+    public String toString() {
+        return name + "[+datasets=" + addedDataSets + ", -datasets=" + removedDataSets
+                + ", +parameters=" + addedParameters + ", -parameters=" + removedParameters
+                + ", changed=" + changedValues + "]";
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.snapshot;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+/**
+ * <pre>
+ * Immutable workbook-independent copy of evaluated DSList.
+ * Values are stored by columns: one array of parameter values per dataset.
+ * Value is null if the dataset has no cell for the parameter.
+ * </pre>
+ */
+public final class DSListSnapshot {
+
+    /**
+     * DSList name.
+     */
+    private final String name;
+
+    /**
+     * Parameter names in order of rows.
+     */
+    private final String[] parameters;
+
+    /**
+     * Dataset names in order of columns.
+     */
+    private final String[] dataSets;
+
+    /**
+     * Values; the first index is dataset index, the second one is parameter index.
+     */
+    private final String[][] values;
+
+    /**
+     * Flag if some of values are formula results.
+     */
+    private final boolean hasFormulas;
+
+    /**
+     * Parameter name to index map.
+     */
+    private final ImmutableMap<String, Integer> parameterIndex;
+
+    /**
+     * Dataset name to index map.
+     */
+    private final ImmutableMap<String, Integer> dataSetIndex;
+
+    /**
+     * Constructor. Arrays are not copied.
+     *
+     * @param name DSList name
+     * @param parameters parameter names
+     * @param dataSets dataset names
+     * @param values values by datasets, each array has the same length as parameters array
+     * @param hasFormulas flag if some of values are formula results.
+     */
+    public DSListSnapshot(@Nonnull final String name,
+                          @Nonnull final String[] parameters,
+                          @Nonnull final String[] dataSets,
+                          @Nonnull final String[][] values,
+                          final boolean hasFormulas) {
+        Preconditions.checkArgument(values.length == dataSets.length,
+                "Values should be given for each of [%s] datasets", dataSets.length);
+        for (String[] column : values) {
+            Preconditions.checkArgument(column.length == parameters.length,
+                    "Values should be given for each of [%s] parameters", parameters.length);
+        }
+        this.name = name;
+        this.parameters = parameters;
+        this.dataSets = dataSets;
+        this.values = values;
+        this.hasFormulas = hasFormulas;
+        this.parameterIndex = index(parameters);
+        this.dataSetIndex = index(dataSets);
+    }
+
+    @Nonnull
+    private static ImmutableMap<String, Integer> index(@Nonnull final String[] names) {
+        Map<String, Integer> result = Maps.newHashMapWithExpectedSize(names.length);
+        for (int i = 0; i < names.length; i++) {
+            result.putIfAbsent(names[i], i);
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    /**
+     * Get name.
+     *
+     * @return String name.
+     */
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get parameter names.
+     *
+     * @return List of parameter names in order of rows.
+     */
+    @Nonnull
+    public List<String> getParameters() {
+        return ImmutableList.copyOf(parameters);
+    }
+
+    /**
+     * Get dataset names.
+     *
+     * @return List of dataset names in order of columns.
+     */
+    @Nonnull
+    public List<String> getDataSets() {
+        return ImmutableList.copyOf(dataSets);
+    }
+
+    /**
+     * Get parameters count.
+     *
+     * @return int count.
+     */
+    public int getParametersCount() {
+        return parameters.length;
+    }
+
+    /**
+     * Get datasets count.
+     *
+     * @return int count.
+     */
+    public int getDataSetsCount() {
+        return dataSets.length;
+    }
+
+    /**
+     * Get parameter name by index.
+     *
+     * @param paramIdx index of the parameter
+     * @return String parameter name.
+     */
+    @Nonnull
+    public String getParameter(final int paramIdx) {
+        return parameters[paramIdx];
+    }
+
+    /**
+     * Get dataset name by index.
+     *
+     * @param dsIdx index of the dataset
+     * @return String dataset name.
+     */
+    @Nonnull
+    public String getDataSet(final int dsIdx) {
+        return dataSets[dsIdx];
+    }
+
+    /**
+     * Get index of the parameter.
+     *
+     * @param parameter String parameter name
+     * @return index or -1 if there is no such parameter.
+     */
+    public int getParameterIndex(@Nonnull final String parameter) {
+        Integer result = parameterIndex.get(parameter);
+        return result == null ? -1 : result;
+    }
+
+    /**
+     * Get index of the dataset.
+     *
+     * @param dataSet String dataset name
+     * @return index or -1 if there is no such dataset.
+     */
+    public int getDataSetIndex(@Nonnull final String dataSet) {
+        Integer result = dataSetIndex.get(dataSet);
+        return result == null ? -1 : result;
+    }
+
+    /**
+     * Get value by indexes.
+     *
+     * @param dsIdx index of the dataset
+     * @param paramIdx index of the parameter
+     * @return String value or null if the dataset has no cell for the parameter.
+     */
+    @Nullable
+    public String getValue(final int dsIdx, final int paramIdx) {
+        return values[dsIdx][paramIdx];
+    }
+
+    /**
+     * Get value by names.
+     *
+     * @param dataSet String dataset name
+     * @param parameter String parameter name
+     * @return String value or null if there is no such dataset/parameter or the dataset has no cell for it.
+     */
+    @Nullable
+    public String getValue(@Nonnull final String dataSet, @Nonnull final String parameter) {
+        int dsIdx = getDataSetIndex(dataSet);
+        int paramIdx = getParameterIndex(parameter);
+        return dsIdx < 0 || paramIdx < 0 ? null : values[dsIdx][paramIdx];
+    }
+
+    /**
+     * Get variables of the dataset.
+     *
+     * @param dataSet String dataset name
+     * @return Map of parameter name to value in order of rows; null if there is no such dataset.
+     */
+    @Nullable
+    public Map<String, String> getVariables(@Nonnull final String dataSet) {
+        int dsIdx = getDataSetIndex(dataSet);
+        if (dsIdx < 0) {
+            return null;
+        }
+        String[] column = values[dsIdx];
+        Map<String, String> result = Maps.newLinkedHashMapWithExpectedSize(column.length);
+        for (int i = 0; i < column.length; i++) {
+            if (column[i] != null) {
+                result.put(parameters[i], column[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check if some of values are formula results.
+     *
+     * @return true if the DSList contains formulas.
+     */
+    public boolean hasFormulas() {
+        return hasFormulas;
+    }
+
+    /**
+     * Compare with other object.
+     *
+     * @param o other object
+     * @return true if names, parameters, datasets and values are equal.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DSListSnapshot)) {
+            return false;
+        }
+        DSListSnapshot that = (DSListSnapshot) o;
+        return name.equals(that.name)
+                && Arrays.equals(parameters, that.parameters)
+                && Arrays.equals(dataSets, that.dataSets)
+                && Arrays.deepEquals(values, that.values);
+    }
+
+    /**
+     * Calculate hash code.
+     *
+     * @return int hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = name.hashCode();
+        result = 31 * result + Arrays.hashCode(parameters);
+        result = 31 * result + Arrays.hashCode(dataSets);
+        return 31 * result + Arrays.deepHashCode(values);
+    }
+
+    /**
+     * Make String representation of the object.
+     *
+     * @return String representation of the object.
+     */
+    @Override
+    public String toString() {
+        return name + "[" + parameters.length + " parameters x " + dataSets.length + " datasets]";
+    }
+}
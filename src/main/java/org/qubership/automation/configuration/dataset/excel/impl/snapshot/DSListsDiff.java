@@ -0,0 +1,163 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.snapshot;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+/**
+ * <pre>
+ * Difference between two snapshots of DSLists of the same source, DSLists are matched by names.
+ * Missing snapshot is the same as a snapshot without DSLists:
+ * for example, all DSLists are added if there is no snapshot before the change.
+ * </pre>
+ */
+public final class DSListsDiff {
+
+    /**
+     * Source qualifier.
+     */
+    private final String source;
+
+    /**
+     * Names of DSLists added.
+     */
+    private final ImmutableList<String> addedLists;
+
+    /**
+     * Names of DSLists removed.
+     */
+    private final ImmutableList<String> removedLists;
+
+    /**
+     * Differences of DSLists changed.
+     */
+    private final ImmutableList<DSListDiff> changedLists;
+
+    private DSListsDiff(@Nonnull final String source,
+                        @Nonnull final List<String> addedLists,
+                        @Nonnull final List<String> removedLists,
+                        @Nonnull final List<DSListDiff> changedLists) {
+        this.source = source;
+        this.addedLists = ImmutableList.copyOf(addedLists);
+        this.removedLists = ImmutableList.copyOf(removedLists);
+        this.changedLists = ImmutableList.copyOf(changedLists);
+    }
+
+    /**
+     * Compare snapshots of DSLists of the same source. Equal DSLists are skipped fast if their snapshots are reused.
+     *
+     * @param source String source qualifier
+     * @param before DSListsSnapshot before the change; null if there were no DSLists
+     * @param after DSListsSnapshot after the change; null if there are no DSLists
+     * @return DSListsDiff object; empty if snapshots are equal.
+     */
+    @Nonnull
+    public static DSListsDiff of(@Nonnull final String source,
+                                 @Nullable final DSListsSnapshot before,
+                                 @Nullable final DSListsSnapshot after) {
+        List<DSListSnapshot> beforeLists = before == null ? Collections.emptyList() : before.getLists();
+        List<DSListSnapshot> afterLists = after == null ? Collections.emptyList() : after.getLists();
+        List<String> added = Lists.newArrayList();
+        List<DSListDiff> changed = Lists.newArrayList();
+        for (DSListSnapshot list : afterLists) {
+            DSListSnapshot previous = before == null ? null : before.getList(list.getName());
+            if (previous == null) {
+                added.add(list.getName());
+            } else if (previous != list) {
+                DSListDiff diff = DSListDiff.of(previous, list);
+                if (!diff.isEmpty()) {
+                    changed.add(diff);
+                }
+            }
+        }
+        List<String> removed = Lists.newArrayList();
+        for (DSListSnapshot list : beforeLists) {
+            if (after == null || after.getList(list.getName()) == null) {
+                removed.add(list.getName());
+            }
+        }
+        return new DSListsDiff(source, added, removed, changed);
+    }
+
+    /**
+     * Get source qualifier.
+     *
+     * @return String source qualifier.
+     */
+    @Nonnull
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Get names of DSLists added.
+     *
+     * @return List of DSList names.
+     */
+    @Nonnull
+    public List<String> getAddedLists() {
+        return addedLists;
+    }
+
+    /**
+     * Get names of DSLists removed.
+     *
+     * @return List of DSList names.
+     */
+    @Nonnull
+    public List<String> getRemovedLists() {
+        return removedLists;
+    }
+
+    /**
+     * Get differences of DSLists existing before and after the change. DSLists without changes are not included.
+     *
+     * @return List of DSListDiffs.
+     */
+    @Nonnull
+    public List<DSListDiff> getChangedLists() {
+        return changedLists;
+    }
+
+    /**
+     * Check if there are no changes.
+     *
+     * @return true if snapshots are equal.
+     */
+    public boolean isEmpty() {
+        return addedLists.isEmpty() && removedLists.isEmpty() && changedLists.isEmpty();
+    }
+
+    /**
+     * Make String representation of the object.
+     *
+     * @return String representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "DSListsDiff[" + source + ", +lists=" + addedLists + ", -lists=" + removedLists
+                + ", changed=" + changedLists + "]";
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.snapshot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.qubership.automation.configuration.dataset.excel.core.DS;
+import org.qubership.automation.configuration.dataset.excel.core.DSList;
+import org.qubership.automation.configuration.dataset.excel.impl.DSImpl;
+import org.qubership.automation.configuration.dataset.excel.impl.EvaluationContext;
+import org.qubership.automation.configuration.dataset.excel.impl.Utils;
+import org.qubership.automation.configuration.dataset.excel.impl.VarsConvInfo;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * <pre>
+ * Immutable workbook-independent copy of evaluated DSLists.
+ * Holds string values only, so the workbook can be released once the snapshot is taken.
+ * Names and values are interned, so repeated strings are shared between DSLists and between snapshots.
+ * </pre>
+ */
+public final class DSListsSnapshot {
+
+    /**
+     * Interner of names and values.
+     */
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+    /**
+     * Source qualifier.
+     */
+    private final String source;
+
+    /**
+     * DSLists in order of sheets.
+     */
+    private final ImmutableList<DSListSnapshot> lists;
+
+    /**
+     * DSList name to DSList map.
+     */
+    private final ImmutableMap<String, DSListSnapshot> byName;
+
+    /**
+     * Constructor.
+     *
+     * @param source String source qualifier
+     * @param lists DSList snapshots.
+     */
+    public DSListsSnapshot(@Nonnull final String source, @Nonnull final Collection<DSListSnapshot> lists) {
+        this.source = source;
+        this.lists = ImmutableList.copyOf(lists);
+        Map<String, DSListSnapshot> byName = Maps.newLinkedHashMap();
+        for (DSListSnapshot list : lists) {
+            byName.putIfAbsent(list.getName(), list);
+        }
+        this.byName = ImmutableMap.copyOf(byName);
+    }
+
+    /**
+     * Take snapshot of DSLists. All DSLists are read and all variables are evaluated.
+     * Values are raw formatted values of cells, see
+     * {@link EvaluationContext#getCellStringValue(org.apache.poi.ss.usermodel.Cell)}:
+     * converters of the DSLists are not applied, so values may differ from the ones of {@link DS#getVariables()};
+     * formulas are evaluated according to the strategy of the DSLists.
+     * Parameter names are built by {@link Utils#doRegularParamName(String, String)}.
+     * If the same parameter name occurs more than once, the last value is kept.
+     *
+     * @param source String source qualifier
+     * @param lists DSLists to take snapshot of
+     * @return a new DSListsSnapshot object.
+     */
+    @Nonnull
+    public static DSListsSnapshot of(@Nonnull final String source,
+                                     @Nonnull final Iterable<? extends DSList<?, ?, ?>> lists) {
+        List<DSListSnapshot> result = Lists.newArrayList();
+        for (DSList<?, ?, ?> list : lists) {
+            result.add(of(list));
+        }
+        return new DSListsSnapshot(source, result);
+    }
+
+    /**
+     * Take snapshot of DSList.
+     *
+     * @param list DSList to take snapshot of
+     * @return a new DSListSnapshot object.
+     */
+    @Nonnull
+    public static DSListSnapshot of(@Nonnull final DSList<?, ?, ?> list) {
+        Set<? extends DS<?, ?>> dataSets = list.getDataSets();
+        Map<String, Integer> paramIndex = Maps.newLinkedHashMap();
+        List<Map<Integer, String>> columns = Lists.newArrayListWithCapacity(dataSets.size());
+        String[] dsNames = new String[dataSets.size()];
+        boolean hasFormulas = false;
+        int dsIdx = 0;
+        for (DS<?, ?> ds : dataSets) {
+            if (!(ds instanceof DSImpl)) {
+                throw new IllegalArgumentException(String.format("Unsupported dataset [%s] of [%s]", ds, list));
+            }
+            DSImpl<?, ?, ?> dsImpl = (DSImpl<?, ?, ?>) ds;
+            dsNames[dsIdx++] = INTERNER.intern(ds.getName());
+            Map<Integer, String> column = Maps.newHashMap();
+            EvaluationContext eval = dsImpl.getEval();
+            synchronized (eval) {
+                EvaluationContext.cleanupRunnable(eval.getStrategy().onDsCleanup, eval).run();
+                for (VarsConvInfo<?> info : dsImpl.getDataSource()) {
+                    Optional<String> name = Utils.doRegularParamName(
+                            info.entity == null ? null : info.entity.getStringValue(),
+                            info.param.getStringValue());
+                    if (!name.isPresent()) {
+                        continue;
+                    }
+                    Integer idx = paramIndex.computeIfAbsent(INTERNER.intern(name.get()), key -> paramIndex.size());
+                    column.put(idx, INTERNER.intern(eval.getCellStringValue(info.var)));
+                    hasFormulas = hasFormulas || Utils.isFormula(info.var);
+                }
+            }
+            columns.add(column);
+        }
+        String[] params = paramIndex.keySet().toArray(new String[0]);
+        String[][] values = new String[dsNames.length][];
+        for (int i = 0; i < dsNames.length; i++) {
+            String[] column = new String[params.length];
+            for (Map.Entry<Integer, String> entry : columns.get(i).entrySet()) {
+                column[entry.getKey()] = entry.getValue();
+            }
+            values[i] = column;
+        }
+        return new DSListSnapshot(INTERNER.intern(list.getName()), params, dsNames, values, hasFormulas);
+    }
+
+    /**
+     * Get source qualifier.
+     *
+     * @return String source qualifier.
+     */
+    @Nonnull
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Get DSLists.
+     *
+     * @return List of DSList snapshots in order of sheets.
+     */
+    @Nonnull
+    public List<DSListSnapshot> getLists() {
+        return lists;
+    }
+
+    /**
+     * Get DSList by name.
+     *
+     * @param name String DSList name
+     * @return DSListSnapshot object or null if there is no such DSList.
+     */
+    @Nullable
+    public DSListSnapshot getList(@Nonnull final String name) {
+        return byName.get(name);
+    }
+
+    /**
+     * Check if some of DSLists contain formulas.
+     *
+     * @return true if some of values are formula results.
+     */
+    public boolean hasFormulas() {
+        for (DSListSnapshot list : lists) {
+            if (list.hasFormulas()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Make String representation of the object.
+     *
+     * @return String representation of the object.
+     */
+    @Override
+    public String toString() {
+        return source + lists;
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.streaming;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * <pre>
+ * SAX handler of the sheet xml part (the 'sheetData' section only).
+ * Collects values of cells into {@link StreamingRow}s and passes each row to the consumer as soon as it is read:
+ * shared strings are resolved using the shared strings table,
+ * formulas are represented by their cached values.
+ * If the filter of header cells is given, only columns accepted by it in the first row are read,
+ * other cells are skipped without collecting their values.
+ * </pre>
+ */
+class SheetHandler extends DefaultHandler {
+
+    /**
+     * Sheet the rows belong to.
+     */
+    private final StreamingSheet sheet;
+
+    /**
+     * Shared strings table.
+     */
+    private final SharedStrings sharedStrings;
+
+    /**
+     * Filter of header cells; null if all columns are read.
+     */
+    @Nullable
+    private final Predicate<Cell> columns;
+
+    /**
+     * Consumer of parsed rows.
+     */
+    private final Consumer<Row> rows;
+
+    /**
+     * Columns accepted by the filter in the first row; null while the first row is read or if all columns are read.
+     */
+    private BitSet selectedColumns;
+
+    /**
+     * Flag if the current cell is skipped.
+     */
+    private boolean skipCell;
+
+    /**
+     * Text of the current value/formula/inline string.
+     */
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * The current row.
+     */
+    private StreamingRow row;
+
+    /**
+     * Index of the last read row.
+     */
+    private int lastRowNum = -1;
+
+    /**
+     * Index of the last read column in the current row.
+     */
+    private int lastColumn = -1;
+
+    /**
+     * Value of the 't' attribute of the current cell.
+     */
+    private String cellType;
+
+    /**
+     * Value of the 's' attribute of the current cell.
+     */
+    private int styleIndex;
+
+    /**
+     * Value of the current cell.
+     */
+    private String value;
+
+    /**
+     * Formula of the current cell.
+     */
+    private String formula;
+
+    /**
+     * Flag if characters should be collected.
+     */
+    private boolean collect;
+
+    /**
+     * Flag if the parser is inside of phonetic run, which should be skipped.
+     */
+    private boolean phonetic;
+
+    /**
+     * Constructor.
+     *
+     * @param sheet StreamingSheet the rows belong to
+     * @param sharedStrings shared strings table
+     * @param rows Consumer of parsed rows.
+     */
+    SheetHandler(@Nonnull final StreamingSheet sheet, @Nonnull final SharedStrings sharedStrings,
+                 @Nonnull final Consumer<Row> rows) {
+        this(sheet, sharedStrings, null, rows);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param sheet StreamingSheet the rows belong to
+     * @param sharedStrings shared strings table
+     * @param columns filter of header cells; null if all columns are read
+     * @param rows Consumer of parsed rows.
+     */
+    SheetHandler(@Nonnull final StreamingSheet sheet, @Nonnull final SharedStrings sharedStrings,
+                 @Nullable final Predicate<Cell> columns, @Nonnull final Consumer<Row> rows) {
+        this.sheet = sheet;
+        this.sharedStrings = sharedStrings;
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName,
+                             final Attributes attributes) {
+        switch (localName) {
+            case "row":
+                String rowRef = attributes.getValue("r");
+                lastRowNum = rowRef == null ? lastRowNum + 1 : Integer.parseInt(rowRef) - 1;
+                lastColumn = -1;
+                row = new StreamingRow(sheet, lastRowNum);
+                break;
+            case "c":
+                String cellRef = attributes.getValue("r");
+                lastColumn = cellRef == null ? lastColumn + 1 : new CellReference(cellRef).getCol();
+                skipCell = selectedColumns != null && !selectedColumns.get(lastColumn);
+                if (skipCell) {
+                    break;
+                }
+                cellType = attributes.getValue("t");
+                String style = attributes.getValue("s");
+                styleIndex = style == null ? 0 : Integer.parseInt(style);
+                value = null;
+                formula = null;
+                break;
+            case "v":
+            case "f":
+                if (!skipCell) {
+                    startCollecting();
+                }
+                break;
+            case "is":
+                // inline string may consist of several runs, all of them are collected
+                if (!skipCell) {
+                    startCollecting();
+                }
+                break;
+            case "rPh":
+                phonetic = true;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) {
+        switch (localName) {
+            case "v":
+            case "is":
+                if (collect) {
+                    value = text.toString();
+                    collect = false;
+                }
+                break;
+            case "f":
+                if (collect) {
+                    formula = text.toString();
+                    collect = false;
+                }
+                break;
+            case "rPh":
+                phonetic = false;
+                break;
+            case "c":
+                if (!skipCell) {
+                    row.addCell(doCell());
+                }
+                skipCell = false;
+                break;
+            case "row":
+                if (columns != null && selectedColumns == null) {
+                    selectColumns(row);
+                }
+                rows.accept(row);
+                row = null;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+        if (collect && !phonetic) {
+            text.append(ch, start, length);
+        }
+    }
+
+    private void selectColumns(@Nonnull final StreamingRow header) {
+        selectedColumns = new BitSet();
+        for (Iterator<Cell> cells = header.cellIterator(); cells.hasNext(); ) {
+            Cell cell = cells.next();
+            if (columns.test(cell)) {
+                selectedColumns.set(cell.getColumnIndex());
+            }
+        }
+    }
+
+    private void startCollecting() {
+        text.setLength(0);
+        collect = true;
+    }
+
+    @Nonnull
+    private StreamingCell doCell() {
+        if (value == null) {
+            return new StreamingCell(row, lastColumn, CellType.BLANK, null, formula, styleIndex);
+        }
+        String type = cellType == null ? "n" : cellType;
+        switch (type) {
+            case "s":
+                String shared = sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+                return new StreamingCell(row, lastColumn, CellType.STRING, shared, formula, styleIndex);
+            case "b":
+                return new StreamingCell(row, lastColumn, CellType.BOOLEAN, "1".equals(value), formula, styleIndex);
+            case "e":
+                return new StreamingCell(row, lastColumn, CellType.ERROR,
+                        FormulaError.forString(value).getCode(), formula, styleIndex);
+            case "n":
+                return new StreamingCell(row, lastColumn, CellType.NUMERIC,
+                        Double.parseDouble(value), formula, styleIndex);
+            default:
+                // 'str', 'inlineStr' and 'd' are kept as is
+                return new StreamingCell(row, lastColumn, CellType.STRING, value, formula, styleIndex);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.streaming;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * <pre>
+ * Rows of the {@link StreamingSheet} built lazily from the SAX callbacks of {@link SheetHandler}.
+ * The sheet xml part is parsed by a dedicated daemon thread, which hands rows over in small batches
+ * through a bounded queue; so the parser is only a few batches ahead of the reader,
+ * and rows already read are not referenced by the sheet.
+ * Rows can be iterated once. The parser is stopped if the rows are closed before they are read to the end.
+ * </pre>
+ */
+class SheetRows extends AbstractIterator<Row> implements Closeable {
+
+    /**
+     * Count of rows in a batch.
+     */
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * Count of batches the parser may be ahead of the reader.
+     */
+    private static final int QUEUED_BATCHES = 4;
+
+    /**
+     * Marker of the end of rows.
+     */
+    private static final List<Row> END = Collections.unmodifiableList(new ArrayList<>(0));
+
+    /**
+     * Factory of parser threads.
+     */
+    private static final ThreadFactory PARSERS = new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("streaming-sheet-parser-%d")
+            .build();
+
+    /**
+     * Sheet the rows belong to.
+     */
+    private final StreamingSheet sheet;
+
+    /**
+     * Batches of rows parsed, followed by {@link #END}.
+     */
+    private final BlockingQueue<List<Row>> batches = new ArrayBlockingQueue<>(QUEUED_BATCHES);
+
+    /**
+     * Parser thread.
+     */
+    private final Thread parser;
+
+    /**
+     * Error of the parser; null if there is no error.
+     */
+    private volatile Throwable failure;
+
+    /**
+     * Flag if the rows are closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * The batch being filled by the parser.
+     */
+    private List<Row> parsed = new ArrayList<>(BATCH_SIZE);
+
+    /**
+     * The batch being read.
+     */
+    private List<Row> current = Collections.emptyList();
+
+    /**
+     * Index of the next row of the current batch.
+     */
+    private int index;
+
+    /**
+     * Constructor. Starts parsing of the sheet.
+     *
+     * @param workbook StreamingWorkbook of the sheet
+     * @param sheet StreamingSheet the rows belong to
+     * @param sheetData InputStream of the sheet xml part; it is closed when parsing is done
+     * @param columns filter of header cells; null if all columns are read.
+     */
+    SheetRows(@Nonnull final StreamingWorkbook workbook, @Nonnull final StreamingSheet sheet,
+              @Nonnull final InputStream sheetData, @Nullable final Predicate<Cell> columns) {
+        this.sheet = sheet;
+        SheetHandler handler = new SheetHandler(sheet, workbook.getSharedStrings(), columns, this::accept);
+        this.parser = PARSERS.newThread(() -> parse(workbook, sheetData, handler));
+        parser.start();
+    }
+
+    private void parse(@Nonnull final StreamingWorkbook workbook, @Nonnull final InputStream sheetData,
+                       @Nonnull final SheetHandler handler) {
+        try (InputStream data = sheetData) {
+            workbook.parse(data, handler);
+            flush();
+        } catch (CancellationException e) {
+            return;
+        } catch (Throwable e) {
+            if (closed) {
+                return;
+            }
+            failure = e;
+        }
+        try {
+            batches.put(END);
+        } catch (InterruptedException e) {
+            // the rows are closed, nobody waits for the end
+        }
+    }
+
+    private void accept(@Nonnull final Row row) {
+        parsed.add(row);
+        if (parsed.size() >= BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (parsed.isEmpty()) {
+            return;
+        }
+        try {
+            batches.put(parsed);
+        } catch (InterruptedException e) {
+            throw new CancellationException();
+        }
+        parsed = new ArrayList<>(BATCH_SIZE);
+    }
+
+    @Override
+    protected Row computeNext() {
+        while (index >= current.size()) {
+            List<Row> next;
+            try {
+                next = batches.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(String.format("Reading of sheet [%s] is interrupted", sheet), e);
+            }
+            if (next == END) {
+                current = Collections.emptyList();
+                if (failure != null) {
+                    throw new IllegalStateException(String.format("Can not read sheet [%s]", sheet), failure);
+                }
+                return endOfData();
+            }
+            current = next;
+            index = 0;
+        }
+        return current.get(index++);
+    }
+
+    /**
+     * Stop the parser, if it is still running.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        parser.interrupt();
+    }
+}
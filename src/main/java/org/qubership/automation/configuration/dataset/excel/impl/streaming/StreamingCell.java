@@ -0,0 +1,565 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.streaming;
+
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+/**
+ * <pre>
+ * Read-only cell produced by the {@link StreamingWorkbook}.
+ * Keeps the value only, without any link to the xml DOM.
+ * Formula cells are exposed by their cached result:
+ * {@link #getCellType()} returns the type of the cached value, so formulas are never re-evaluated.
+ * All modifying methods throw {@link UnsupportedOperationException}.
+ * </pre>
+ */
+public class StreamingCell implements Cell {
+
+    /**
+     * Parent row.
+     */
+    private final StreamingRow row;
+
+    /**
+     * Index of the column.
+     */
+    private final int columnIndex;
+
+    /**
+     * Type of the value (cached result type for formula cells).
+     */
+    private final CellType type;
+
+    /**
+     * Value: String, Double, Boolean or Byte (error code) depending on type; null for blank cells.
+     */
+    private final Object value;
+
+    /**
+     * Formula text; null if the cell is not a formula.
+     */
+    private final String formula;
+
+    /**
+     * Index of the cell style in the styles table.
+     */
+    private final int styleIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param row parent StreamingRow
+     * @param columnIndex index of the column
+     * @param type type of the value
+     * @param value value object
+     * @param formula formula text or null
+     * @param styleIndex index of the cell style.
+     */
+    StreamingCell(@Nonnull final StreamingRow row,
+                  final int columnIndex,
+                  @Nonnull final CellType type,
+                  @Nullable final Object value,
+                  @Nullable final String formula,
+                  final int styleIndex) {
+        this.row = row;
+        this.columnIndex = columnIndex;
+        this.type = type;
+        this.value = value;
+        this.formula = formula;
+        this.styleIndex = styleIndex;
+    }
+
+    /**
+     * Get name of the sheet the cell belongs to.
+     *
+     * @return String sheet name.
+     */
+    @Nonnull
+    public String getSheetName() {
+        return row.getSheetName();
+    }
+
+    /**
+     * Check if the cell contains a formula.
+     *
+     * @return true if the cell contains a formula.
+     */
+    public boolean isFormula() {
+        return formula != null;
+    }
+
+    /**
+     * Get Column Index.
+     *
+     * @return int index of the column.
+     */
+    @Override
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    /**
+     * Get Row Index.
+     *
+     * @return int index of the row.
+     */
+    @Override
+    public int getRowIndex() {
+        return row.getRowNum();
+    }
+
+    /**
+     * Get Sheet; there is no sheet object for streamed cells, see {@link #getSheetName()}.
+     *
+     * @return null.
+     */
+    @Override
+    public Sheet getSheet() {
+        return null;
+    }
+
+    /**
+     * Get Row.
+     *
+     * @return Row object.
+     */
+    @Override
+    public Row getRow() {
+        return row;
+    }
+
+    /**
+     * Get Cell Type; cached result type for formula cells.
+     *
+     * @return CellType object.
+     */
+    @Override
+    public CellType getCellType() {
+        return type;
+    }
+
+    /**
+     * Get Cell Type Enum.
+     *
+     * @return CellType object.
+     * @deprecated use {@link #getCellType()}.
+     */
+    @Deprecated
+    @Override
+    public CellType getCellTypeEnum() {
+        return getCellType();
+    }
+
+    /**
+     * Get cached formula result type.
+     *
+     * @return CellType cached formula result type.
+     */
+    @Override
+    public CellType getCachedFormulaResultType() {
+        if (formula == null) {
+            throw new IllegalStateException("Only formula cells have cached results");
+        }
+        return type;
+    }
+
+    /**
+     * Get cached formula result type enum.
+     *
+     * @return CellType cached formula result type enum.
+     * @deprecated use {@link #getCachedFormulaResultType()}.
+     */
+    @Deprecated
+    @Override
+    public CellType getCachedFormulaResultTypeEnum() {
+        return getCachedFormulaResultType();
+    }
+
+    /**
+     * Get Cell Formula.
+     *
+     * @return String representation of the formula.
+     */
+    @Override
+    public String getCellFormula() {
+        if (formula == null) {
+            throw new IllegalStateException("Cell " + getAddress() + " is not a formula cell");
+        }
+        return formula;
+    }
+
+    /**
+     * Get numeric cell value.
+     *
+     * @return double value.
+     */
+    @Override
+    public double getNumericCellValue() {
+        if (type == CellType.BLANK) {
+            return 0.0;
+        }
+        return (Double) checkType(CellType.NUMERIC);
+    }
+
+    /**
+     * Get Date cell value.
+     *
+     * @return Date object.
+     */
+    @Override
+    public Date getDateCellValue() {
+        if (type == CellType.BLANK) {
+            return null;
+        }
+        return DateUtil.getJavaDate(getNumericCellValue(), row.isStartDate1904());
+    }
+
+    /**
+     * Get LocalDateTime cell value.
+     *
+     * @return LocalDateTime object.
+     */
+    @Override
+    public LocalDateTime getLocalDateTimeCellValue() {
+        if (type == CellType.BLANK) {
+            return null;
+        }
+        return DateUtil.getLocalDateTime(getNumericCellValue(), row.isStartDate1904());
+    }
+
+    /**
+     * Get RichTextString cell value.
+     *
+     * @return RichTextString object.
+     */
+    @Override
+    public RichTextString getRichStringCellValue() {
+        return new XSSFRichTextString(getStringCellValue());
+    }
+
+    /**
+     * Get String cell value.
+     *
+     * @return String object.
+     */
+    @Override
+    public String getStringCellValue() {
+        if (type == CellType.BLANK) {
+            return StringUtils.EMPTY;
+        }
+        return (String) checkType(CellType.STRING);
+    }
+
+    /**
+     * Get boolean cell value.
+     *
+     * @return boolean value.
+     */
+    @Override
+    public boolean getBooleanCellValue() {
+        if (type == CellType.BLANK) {
+            return false;
+        }
+        return (Boolean) checkType(CellType.BOOLEAN);
+    }
+
+    /**
+     * Get Error Cell Value.
+     *
+     * @return byte error value.
+     */
+    @Override
+    public byte getErrorCellValue() {
+        if (type == CellType.BLANK) {
+            return 0;
+        }
+        return (Byte) checkType(CellType.ERROR);
+    }
+
+    /**
+     * Get Cell Style from the shared styles table.
+     *
+     * @return CellStyle object.
+     */
+    @Override
+    public CellStyle getCellStyle() {
+        return row.getStyle(styleIndex);
+    }
+
+    /**
+     * Get cell address.
+     *
+     * @return CellAddress of the cell.
+     */
+    @Override
+    public CellAddress getAddress() {
+        return new CellAddress(getRowIndex(), columnIndex);
+    }
+
+    /**
+     * Get cell comment; comments are not read in streaming mode.
+     *
+     * @return null.
+     */
+    @Override
+    public Comment getCellComment() {
+        return null;
+    }
+
+    /**
+     * Get Hyperlink; hyperlinks are not read in streaming mode.
+     *
+     * @return null.
+     */
+    @Override
+    public Hyperlink getHyperlink() {
+        return null;
+    }
+
+    /**
+     * Get Array Formula Range; array formulas are not read in streaming mode.
+     *
+     * @return CellRangeAddress object.
+     */
+    @Override
+    public CellRangeAddress getArrayFormulaRange() {
+        throw new IllegalStateException("Cell " + getAddress() + " is not part of an array formula");
+    }
+
+    /**
+     * Check if the cell is a part of Array Formula Group.
+     *
+     * @return false.
+     */
+    @Override
+    public boolean isPartOfArrayFormulaGroup() {
+        return false;
+    }
+
+    //region not implemented
+
+    /**
+     * Set Cell Type; actually unsupported.
+     *
+     * @param cellType CellType cell type to set.
+     */
+    @Deprecated
+    @Override
+    public void setCellType(final CellType cellType) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set Blank; actually unsupported.
+     */
+    @Override
+    public void setBlank() {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set value; actually unsupported.
+     *
+     * @param value double value to set.
+     */
+    @Override
+    public void setCellValue(final double value) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set value; actually unsupported.
+     *
+     * @param value Date value to set.
+     */
+    @Override
+    public void setCellValue(final Date value) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set value; actually unsupported.
+     *
+     * @param value LocalDateTime value to set.
+     */
+    @Override
+    public void setCellValue(final LocalDateTime value) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set value; actually unsupported.
+     *
+     * @param value Calendar value to set.
+     */
+    @Override
+    public void setCellValue(final Calendar value) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set value; actually unsupported.
+     *
+     * @param value RichTextString value to set.
+     */
+    @Override
+    public void setCellValue(final RichTextString value) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set value; actually unsupported.
+     *
+     * @param value String value to set.
+     */
+    @Override
+    public void setCellValue(final String value) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set value; actually unsupported.
+     *
+     * @param value boolean value to set.
+     */
+    @Override
+    public void setCellValue(final boolean value) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set Cell Formula; actually unsupported.
+     *
+     * @param formula String formula to set.
+     */
+    @Override
+    public void setCellFormula(final String formula) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Remove Cell Formula; actually unsupported.
+     */
+    @Override
+    public void removeFormula() {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set error value; actually unsupported.
+     *
+     * @param value byte value to set.
+     */
+    @Override
+    public void setCellErrorValue(final byte value) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set Cell Style; actually unsupported.
+     *
+     * @param style CellStyle object to set.
+     */
+    @Override
+    public void setCellStyle(final CellStyle style) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set Cell as Active Cell; actually unsupported.
+     */
+    @Override
+    public void setAsActiveCell() {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set Cell Comment; actually unsupported.
+     *
+     * @param comment Comment object to set.
+     */
+    @Override
+    public void setCellComment(final Comment comment) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Remove Cell Comment; actually unsupported.
+     */
+    @Override
+    public void removeCellComment() {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Set Hyperlink; actually unsupported.
+     *
+     * @param link Hyperlink to set.
+     */
+    @Override
+    public void setHyperlink(final Hyperlink link) {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    /**
+     * Remove Hyperlink; actually unsupported.
+     */
+    @Override
+    public void removeHyperlink() {
+        throw new UnsupportedOperationException("Streamed cells are read-only");
+    }
+
+    //endregion
+
+    private Object checkType(@Nonnull final CellType expected) {
+        if (type != expected) {
+            throw new IllegalStateException(String.format("Cannot get a %s value from a %s cell %s",
+                    expected, type, getAddress()));
+        }
+        return value;
+    }
+
+    /**
+     * Make String representation of the object.
+     *
+     * @return String representation of the object.
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(value == null ? StringUtils.EMPTY : value);
+    }
+}
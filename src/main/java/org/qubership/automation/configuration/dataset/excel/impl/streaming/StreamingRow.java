@@ -0,0 +1,392 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.streaming;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * Read-only row produced by the {@link StreamingWorkbook}.
+ * Cells are kept in the column order; all modifying methods throw {@link UnsupportedOperationException}.
+ */
+public class StreamingRow implements Row {
+
+    /**
+     * Parent sheet.
+     */
+    private final StreamingSheet sheet;
+
+    /**
+     * Index of the row.
+     */
+    private final int rowNum;
+
+    /**
+     * Cells of the row sorted by column index.
+     */
+    private final List<Cell> cells = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param sheet parent StreamingSheet
+     * @param rowNum index of the row.
+     */
+    StreamingRow(@Nonnull final StreamingSheet sheet, final int rowNum) {
+        this.sheet = sheet;
+        this.rowNum = rowNum;
+    }
+
+    /**
+     * Add cell to the end of the row.
+     *
+     * @param cell StreamingCell to add.
+     */
+    void addCell(@Nonnull final StreamingCell cell) {
+        cells.add(cell);
+    }
+
+    /**
+     * Get name of the parent sheet.
+     *
+     * @return String sheet name.
+     */
+    @Nonnull
+    public String getSheetName() {
+        return sheet.getName();
+    }
+
+    /**
+     * Check if Date starting point is 1904.
+     *
+     * @return true/false.
+     */
+    boolean isStartDate1904() {
+        return sheet.isStartDate1904();
+    }
+
+    /**
+     * Get style from the shared styles table.
+     *
+     * @param styleIndex index of the style
+     * @return CellStyle object.
+     */
+    CellStyle getStyle(final int styleIndex) {
+        return sheet.getStyle(styleIndex);
+    }
+
+    /**
+     * Get row number.
+     *
+     * @return int index of the row.
+     */
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    /**
+     * Get cell by column index.
+     *
+     * @param cellnum index of the column
+     * @return Cell object or null if there is no such cell.
+     */
+    @Nullable
+    @Override
+    public Cell getCell(final int cellnum) {
+        int low = 0;
+        int high = cells.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Cell cell = cells.get(mid);
+            int column = cell.getColumnIndex();
+            if (column < cellnum) {
+                low = mid + 1;
+            } else if (column > cellnum) {
+                high = mid - 1;
+            } else {
+                return cell;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get cell by column index; only {@link MissingCellPolicy#RETURN_NULL_AND_BLANK}
+     * and {@link MissingCellPolicy#RETURN_BLANK_AS_NULL} policies are supported.
+     *
+     * @param cellnum index of the column
+     * @param policy MissingCellPolicy
+     * @return Cell object or null.
+     */
+    @Nullable
+    @Override
+    public Cell getCell(final int cellnum, final MissingCellPolicy policy) {
+        Cell cell = getCell(cellnum);
+        switch (policy) {
+            case RETURN_NULL_AND_BLANK:
+                return cell;
+            case RETURN_BLANK_AS_NULL:
+                return cell == null || cell.getCellType() == CellType.BLANK ? null : cell;
+            default:
+                throw new UnsupportedOperationException("Streamed rows are read-only");
+        }
+    }
+
+    /**
+     * Get the first cell index.
+     *
+     * @return short index or -1 if the row is empty.
+     */
+    @Override
+    public short getFirstCellNum() {
+        return (short) (cells.isEmpty() ? -1 : cells.get(0).getColumnIndex());
+    }
+
+    /**
+     * Get the last cell index PLUS ONE.
+     *
+     * @return short index or -1 if the row is empty.
+     */
+    @Override
+    public short getLastCellNum() {
+        return (short) (cells.isEmpty() ? -1 : cells.get(cells.size() - 1).getColumnIndex() + 1);
+    }
+
+    /**
+     * Get number of defined cells.
+     *
+     * @return int number of cells.
+     */
+    @Override
+    public int getPhysicalNumberOfCells() {
+        return cells.size();
+    }
+
+    /**
+     * Get cells iterator.
+     *
+     * @return Iterator of Cells.
+     */
+    @Override
+    public Iterator<Cell> cellIterator() {
+        return Collections.unmodifiableList(cells).iterator();
+    }
+
+    /**
+     * Get cells iterator.
+     *
+     * @return Iterator of Cells.
+     */
+    @Override
+    public Iterator<Cell> iterator() {
+        return cellIterator();
+    }
+
+    /**
+     * Get Sheet; there is no sheet object for streamed rows, see {@link #getSheetName()}.
+     *
+     * @return null.
+     */
+    @Override
+    public Sheet getSheet() {
+        return null;
+    }
+
+    /**
+     * Get zero height flag; row properties are not read in streaming mode.
+     *
+     * @return false.
+     */
+    @Override
+    public boolean getZeroHeight() {
+        return false;
+    }
+
+    /**
+     * Get row height; row properties are not read in streaming mode.
+     *
+     * @return -1.
+     */
+    @Override
+    public short getHeight() {
+        return -1;
+    }
+
+    /**
+     * Get row height in points; row properties are not read in streaming mode.
+     *
+     * @return -1.
+     */
+    @Override
+    public float getHeightInPoints() {
+        return -1;
+    }
+
+    /**
+     * Check if the row is formatted; row properties are not read in streaming mode.
+     *
+     * @return false.
+     */
+    @Override
+    public boolean isFormatted() {
+        return false;
+    }
+
+    /**
+     * Get row style; row properties are not read in streaming mode.
+     *
+     * @return null.
+     */
+    @Override
+    public CellStyle getRowStyle() {
+        return null;
+    }
+
+    /**
+     * Get outline level; row properties are not read in streaming mode.
+     *
+     * @return 0.
+     */
+    @Override
+    public int getOutlineLevel() {
+        return 0;
+    }
+
+    //region not implemented
+
+    /**
+     * Create cell; actually unsupported.
+     *
+     * @param column index of the column
+     * @return nothing.
+     */
+    @Override
+    public Cell createCell(final int column) {
+        throw new UnsupportedOperationException("Streamed rows are read-only");
+    }
+
+    /**
+     * Create cell; actually unsupported.
+     *
+     * @param column index of the column
+     * @param type CellType
+     * @return nothing.
+     */
+    @Override
+    public Cell createCell(final int column, final CellType type) {
+        throw new UnsupportedOperationException("Streamed rows are read-only");
+    }
+
+    /**
+     * Remove cell; actually unsupported.
+     *
+     * @param cell Cell to remove.
+     */
+    @Override
+    public void removeCell(final Cell cell) {
+        throw new UnsupportedOperationException("Streamed rows are read-only");
+    }
+
+    /**
+     * Set row number; actually unsupported.
+     *
+     * @param rowNum int row number.
+     */
+    @Override
+    public void setRowNum(final int rowNum) {
+        throw new UnsupportedOperationException("Streamed rows are read-only");
+    }
+
+    /**
+     * Set height; actually unsupported.
+     *
+     * @param height short height.
+     */
+    @Override
+    public void setHeight(final short height) {
+        throw new UnsupportedOperationException("Streamed rows are read-only");
+    }
+
+    /**
+     * Set zero height; actually unsupported.
+     *
+     * @param zHeight boolean flag.
+     */
+    @Override
+    public void setZeroHeight(final boolean zHeight) {
+        throw new UnsupportedOperationException("Streamed rows are read-only");
+    }
+
+    /**
+     * Set height in points; actually unsupported.
+     *
+     * @param height float height.
+     */
+    @Override
+    public void setHeightInPoints(final float height) {
+        throw new UnsupportedOperationException("Streamed rows are read-only");
+    }
+
+    /**
+     * Set row style; actually unsupported.
+     *
+     * @param style CellStyle object.
+     */
+    @Override
+    public void setRowStyle(final CellStyle style) {
+        throw new UnsupportedOperationException("Streamed rows are read-only");
+    }
+
+    /**
+     * Shift cells right; actually unsupported.
+     *
+     * @param firstShiftColumnIndex int index
+     * @param lastShiftColumnIndex int index
+     * @param step int step.
+     */
+    @Override
+    public void shiftCellsRight(final int firstShiftColumnIndex, final int lastShiftColumnIndex, final int step) {
+        throw new UnsupportedOperationException("Streamed rows are read-only");
+    }
+
+    /**
+     * Shift cells left; actually unsupported.
+     *
+     * @param firstShiftColumnIndex int index
+     * @param lastShiftColumnIndex int index
+     * @param step int step.
+     */
+    @Override
+    public void shiftCellsLeft(final int firstShiftColumnIndex, final int lastShiftColumnIndex, final int step) {
+        throw new UnsupportedOperationException("Streamed rows are read-only");
+    }
+
+    //endregion
+}
@@ -0,0 +1,148 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.streaming;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * Sheet of the {@link StreamingWorkbook}.
+ * Rows are parsed from the sheet xml part with SAX while they are iterated, see {@link #rowIterator()}.
+ */
+public class StreamingSheet {
+
+    /**
+     * Parent workbook.
+     */
+    private final StreamingWorkbook workbook;
+
+    /**
+     * Sheet name.
+     */
+    private final String name;
+
+    /**
+     * Rows parsed lazily; null if the sheet is not read.
+     */
+    private SheetRows rows;
+
+    /**
+     * Constructor.
+     *
+     * @param workbook parent StreamingWorkbook
+     * @param name String sheet name.
+     */
+    StreamingSheet(@Nonnull final StreamingWorkbook workbook, @Nonnull final String name) {
+        this.workbook = workbook;
+        this.name = name;
+    }
+
+    /**
+     * Start parsing of rows of the sheet from the xml part given.
+     *
+     * @param sheetData InputStream of the sheet xml part; it is closed when parsing is done
+     * @return SheetRows parsed lazily.
+     */
+    @Nonnull
+    SheetRows read(@Nonnull final InputStream sheetData) {
+        return read(sheetData, null);
+    }
+
+    /**
+     * Start parsing of rows of the sheet from the xml part given; only columns accepted in the first row are read.
+     *
+     * @param sheetData InputStream of the sheet xml part; it is closed when parsing is done
+     * @param columns filter of header cells; null if all columns are read
+     * @return SheetRows parsed lazily.
+     */
+    @Nonnull
+    SheetRows read(@Nonnull final InputStream sheetData, @Nullable final Predicate<Cell> columns) {
+        rows = new SheetRows(workbook, this, sheetData, columns);
+        return rows;
+    }
+
+    /**
+     * Get name.
+     *
+     * @return String sheet name.
+     */
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get rows iterator. Rows are parsed while they are iterated, so they can be iterated once,
+     * before the workbook is closed.
+     *
+     * @return Iterator of Rows.
+     */
+    @Nonnull
+    public Iterator<Row> rowIterator() {
+        return rows == null ? Collections.emptyIterator() : rows;
+    }
+
+    /**
+     * Stop parsing of rows which are not read yet; the rest of rows can not be iterated after that.
+     * Should be invoked if the rows are not read to the end, so the parser does not wait for the reader
+     * until the workbook is closed.
+     */
+    public void close() {
+        if (rows != null) {
+            rows.close();
+        }
+    }
+
+    /**
+     * Check if Date starting point is 1904.
+     *
+     * @return true/false.
+     */
+    boolean isStartDate1904() {
+        return workbook.isStartDate1904();
+    }
+
+    /**
+     * Get style from the shared styles table.
+     *
+     * @param styleIndex index of the style
+     * @return CellStyle object.
+     */
+    CellStyle getStyle(final int styleIndex) {
+        return workbook.getStyle(styleIndex);
+    }
+
+    /**
+     * Make String representation of the object.
+     *
+     * @return String representation of the object.
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.streaming;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.google.common.collect.Lists;
+
+/**
+ * <pre>
+ * Read-only xlsx workbook which is read with SAX parser sheet by sheet.
+ * Unlike {@link org.apache.poi.xssf.usermodel.XSSFWorkbook} it does not build the DOM of the whole file,
+ * so the memory consumed is proportional to the values of a single sheet only.
+ * Formulas are not evaluated, their cached results are used instead.
+ * </pre>
+ */
+public class StreamingWorkbook implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingWorkbook.class);
+
+    /**
+     * Opened package.
+     */
+    private final OPCPackage pkg;
+
+    /**
+     * Reader of package parts.
+     */
+    private final XSSFReader reader;
+
+    /**
+     * Shared strings table.
+     */
+    private final SharedStrings sharedStrings;
+
+    /**
+     * Styles table.
+     */
+    private final StylesTable styles;
+
+    /**
+     * Cache of styles by index.
+     */
+    private final ConcurrentMap<Integer, CellStyle> stylesCache = new ConcurrentHashMap<>();
+
+    /**
+     * Flag if Date starting point is 1904.
+     */
+    private final boolean date1904;
+
+    /**
+     * Rows of sheets being parsed; they are stopped when the workbook is closed.
+     */
+    private final List<SheetRows> sheetRows = Lists.newArrayList();
+
+    /**
+     * Constructor. Opens the file in read-only mode.
+     *
+     * @param file xlsx File to read
+     * @throws Exception in case IO or parsing errors occurred.
+     */
+    public StreamingWorkbook(@Nonnull final File file) throws Exception {
+        this.pkg = OPCPackage.open(file, PackageAccess.READ);
+        try {
+            this.reader = new XSSFReader(pkg);
+            this.sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            this.styles = readStyles(reader);
+            this.date1904 = readDate1904(reader);
+        } catch (Exception e) {
+            pkg.revert();
+            throw e;
+        }
+    }
+
+    private static StylesTable readStyles(@Nonnull final XSSFReader reader) {
+        try {
+            StylesTable result = reader.getStylesTable();
+            if (result != null) {
+                return result;
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Styles table can not be read, the default one is used", e);
+        }
+        return new StylesTable();
+    }
+
+    private boolean readDate1904(@Nonnull final XSSFReader reader) throws Exception {
+        boolean[] result = new boolean[1];
+        try (InputStream workbookData = reader.getWorkbookData()) {
+            parse(workbookData, new DefaultHandler() {
+                @Override
+                public void startElement(final String uri, final String localName, final String qName,
+                                         final Attributes attributes) {
+                    if ("workbookPr".equals(localName)) {
+                        String value = attributes.getValue("date1904");
+                        result[0] = "1".equals(value) || "true".equalsIgnoreCase(value);
+                    }
+                }
+            });
+        }
+        return result[0];
+    }
+
+    /**
+     * Parse xml part with the handler given.
+     *
+     * @param data InputStream of the xml part
+     * @param handler SAX handler
+     * @throws Exception in case IO or parsing errors occurred.
+     */
+    void parse(@Nonnull final InputStream data, @Nonnull final DefaultHandler handler) throws Exception {
+        XMLReader xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(handler);
+        xmlReader.parse(new InputSource(data));
+    }
+
+    /**
+     * Get shared strings table.
+     *
+     * @return SharedStrings table.
+     */
+    @Nonnull
+    SharedStrings getSharedStrings() {
+        return sharedStrings;
+    }
+
+    /**
+     * Check if Date starting point is 1904.
+     *
+     * @return true/false.
+     */
+    public boolean isStartDate1904() {
+        return date1904;
+    }
+
+    /**
+     * Get style by index.
+     *
+     * @param styleIndex index of the style
+     * @return CellStyle object.
+     */
+    CellStyle getStyle(final int styleIndex) {
+        return stylesCache.computeIfAbsent(styleIndex, idx -> {
+            CellStyle style = idx < styles.getNumCellStyles() ? styles.getStyleAt(idx) : null;
+            return style == null ? styles.getStyleAt(0) : style;
+        });
+    }
+
+    /**
+     * Get iterator of sheets accepted by the filter.
+     * Rows of each sheet are parsed while they are iterated, see {@link StreamingSheet#rowIterator()};
+     * the rows of the previous sheet are not referenced by the iterator.
+     *
+     * @param sheetNamesFilter filter of sheet names
+     * @return Iterator of StreamingSheets.
+     * @throws Exception in case IO or parsing errors occurred.
+     */
+    @Nonnull
+    public Iterator<StreamingSheet> sheetIterator(@Nonnull final Predicate<String> sheetNamesFilter)
+            throws Exception {
+        return sheetIterator(sheetNamesFilter, null);
+    }
+
+    /**
+     * Get iterator of sheets accepted by the filter.
+     * Rows of each sheet are parsed while they are iterated, see {@link StreamingSheet#rowIterator()};
+     * the rows of the previous sheet are not referenced by the iterator.
+     *
+     * @param sheetNamesFilter filter of sheet names
+     * @param columnsFilter filter of header cells: only columns accepted in the first row of a sheet are read;
+     *                      null if all columns are read
+     * @return Iterator of StreamingSheets.
+     * @throws Exception in case IO or parsing errors occurred.
+     */
+    @Nonnull
+    public Iterator<StreamingSheet> sheetIterator(@Nonnull final Predicate<String> sheetNamesFilter,
+                                                  @Nullable final Predicate<Cell> columnsFilter)
+            throws Exception {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        return new Iterator<StreamingSheet>() {
+
+            private StreamingSheet next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && sheets.hasNext()) {
+                    InputStream sheetData = sheets.next();
+                    String name = sheets.getSheetName();
+                    if (!sheetNamesFilter.test(name)) {
+                        IOUtils.closeQuietly(sheetData);
+                        continue;
+                    }
+                    StreamingSheet sheet = new StreamingSheet(StreamingWorkbook.this, name);
+                    sheetRows.add(sheet.read(sheetData, columnsFilter));
+                    next = sheet;
+                }
+                return next != null;
+            }
+
+            @Override
+            public StreamingSheet next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                StreamingSheet result = next;
+                next = null;
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Stop parsing of sheets and close the package without saving.
+     *
+     * @throws IOException never, the package is opened in read-only mode.
+     */
+    @Override
+    public void close() throws IOException {
+        for (SheetRows rows : sheetRows) {
+            rows.close();
+        }
+        sheetRows.clear();
+        pkg.revert();
+    }
+}
@@ -19,30 +19,72 @@ package org.qubership.automation.configuration.dataset.excel.tracker;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.apache.poi.openxml4j.opc.PackagingURIHelper;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.apache.poi.xssf.model.ExternalLinksTable;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.qubership.automation.configuration.dataset.excel.impl.snapshot.DSListSnapshot;
+import org.qubership.automation.configuration.dataset.excel.impl.snapshot.DSListsSnapshot;
 import org.qubership.automation.configuration.dataset.excel.tracker.base.Resource;
 import org.qubership.automation.configuration.dataset.excel.tracker.base.ResourceStatus;
 
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 public class ResourceUtils {
 
+    /**
+     * Estimated retained size of a parsed cell, bytes: cell object with its underlying xml bean.
+     */
+    private static final long CELL_SIZE = 240;
+
+    /**
+     * Estimated retained size of a parsed row, bytes.
+     */
+    private static final long ROW_SIZE = 160;
+
+    /**
+     * Estimated retained size of a parsed workbook per byte of its file: shared strings, styles, etc.
+     */
+    private static final long FILE_BYTE_SIZE = 4;
+
+    /**
+     * Estimated retained size of a String object without its characters, bytes.
+     */
+    private static final long STRING_SIZE = 40;
+
+    /**
+     * Prefix of package parts with document properties; they are changed on each save, so they are not checked.
+     */
+    private static final String PROPERTIES_PREFIX = "docProps/";
+
+    /**
+     * Prefix of worksheet parts.
+     */
+    private static final String WORKSHEETS_PREFIX = "xl/worksheets/";
+
     /**
      * Function to get the last exception for input Resource given.
      */
@@ -116,9 +158,8 @@ public class ResourceUtils {
     /**
      * Filter to identify dataset files.
      */
-    public static final FileFilter DATASET_FILTER = pathname -> pathname.isFile() &&
-            (/*pathname.getName().endsWith(".xls") || */pathname.getName().endsWith(".xlsx")) &&
-            !pathname.getName().startsWith("~$");
+    public static final FileFilter DATASET_FILTER = pathname -> pathname.isFile()
+            && isDataSetName(pathname.getName());
 
     /**
      * Function to get resource.
@@ -152,6 +193,15 @@ public class ResourceUtils {
         return (Function<? extends Resource<T>, T>) GET_RESOURCE;
     }
 
+    static {
+        // POI initializes its XSSF factories lazily and not thread-safely, so concurrent first parses may fail
+        try (Workbook ignored = WorkbookFactory.create(true)) {
+            // initialized
+        } catch (IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     /**
      * Create Workbook from the file given.
      *
@@ -166,6 +216,90 @@ public class ResourceUtils {
         }
     }
 
+    /**
+     * Estimate retained size of the workbook given: a rough value by numbers of parsed rows and cells
+     * and by the length of the file, without walking the object graph.
+     *
+     * @param wb Workbook object
+     * @param fileLength long length of the file of the workbook
+     * @return long estimated size in bytes.
+     */
+    public static long estimateRetainedSize(@Nonnull final Workbook wb, final long fileLength) {
+        long result = fileLength * FILE_BYTE_SIZE;
+        for (Sheet sheet : wb) {
+            for (Row row : sheet) {
+                result += ROW_SIZE + row.getPhysicalNumberOfCells() * CELL_SIZE;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Estimate retained size of the snapshot given. Strings shared by the snapshot are counted each time.
+     *
+     * @param snapshot DSListsSnapshot object
+     * @return long estimated size in bytes.
+     */
+    public static long estimateRetainedSize(@Nonnull final DSListsSnapshot snapshot) {
+        long result = 0;
+        for (DSListSnapshot list : snapshot.getLists()) {
+            for (int dsIdx = 0; dsIdx < list.getDataSetsCount(); dsIdx++) {
+                for (int paramIdx = 0; paramIdx < list.getParametersCount(); paramIdx++) {
+                    String value = list.getValue(dsIdx, paramIdx);
+                    result += value == null ? Integer.BYTES : Integer.BYTES + STRING_SIZE + 2L * value.length();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get checksums of parts of the workbook file given, from the zip central directory without reading parts.
+     * Each checksum is made of the size and the CRC of the part. Document properties are not included.
+     *
+     * @param file File of the workbook
+     * @return Map of part names to checksums; empty if the file is not a zip package or can not be read.
+     */
+    @Nonnull
+    public static Map<String, Long> getPartChecksums(@Nonnull final File file) {
+        try (ZipFile zip = new ZipFile(file)) {
+            Map<String, Long> result = Maps.newHashMapWithExpectedSize(zip.size());
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && !entry.getName().startsWith(PROPERTIES_PREFIX)) {
+                    result.put(entry.getName(), entry.getSize() << Integer.SIZE | entry.getCrc());
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Check if the package part is a worksheet: its content belongs to one sheet only.
+     *
+     * @param partName String name of the part, see {@link #getPartChecksums(File)}
+     * @return true if the part is a worksheet.
+     */
+    public static boolean isSheetPart(@Nonnull final String partName) {
+        return partName.startsWith(WORKSHEETS_PREFIX) && partName.indexOf('/', WORKSHEETS_PREFIX.length()) < 0;
+    }
+
+    /**
+     * Get name of the package part of the sheet given, as it is named by {@link #getPartChecksums(File)}.
+     *
+     * @param sheet Sheet object
+     * @return String part name or null if the sheet is not a part of a zip package.
+     */
+    @Nullable
+    public static String getPartName(@Nonnull final Sheet sheet) {
+        return sheet instanceof XSSFSheet
+                ? ((XSSFSheet) sheet).getPackagePart().getPartName().getName().substring(1)
+                : null;
+    }
+
     /**
      * Get references from workbook given.
      *
@@ -214,4 +348,14 @@ public class ResourceUtils {
         return PackagingURIHelper.encode(path);
     }
 
+
+    /**
+     * Check if the file name is a name of dataset file.
+     *
+     * @param name String file name
+     * @return true if it is an xlsx file name, but not a name of Excel lock file.
+     */
+    public static boolean isDataSetName(@Nonnull final String name) {
+        return name.endsWith(".xlsx") && !name.startsWith("~$");
+    }
 }
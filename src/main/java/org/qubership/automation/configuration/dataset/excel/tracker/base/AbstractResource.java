@@ -21,10 +21,12 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -36,6 +38,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
@@ -48,6 +51,11 @@ public abstract class AbstractResource<T> extends ResourceState<T> {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractResource.class);
 
+    /**
+     * Version of the graph of references; changed each time a reference is added or removed by any resource.
+     */
+    private static final AtomicLong REFS_VERSION = new AtomicLong();
+
     /**
      * References Supplier object.
      */
@@ -82,6 +90,11 @@ public abstract class AbstractResource<T> extends ResourceState<T> {
      */
     protected ResourceStatus status = ResourceStatus.DELETED;
 
+    /**
+     * All references tree flattened, as of some version of the graph of references; null if not computed yet.
+     */
+    private volatile FlatRefs allRefs;
+
     /**
      * Constructor.
      *
@@ -90,7 +103,34 @@ public abstract class AbstractResource<T> extends ResourceState<T> {
      * @param checkThreshold long value.
      */
     public AbstractResource(@Nonnull final Path path, @Nonnull final RefsSupplier refsSup, final long checkThreshold) {
-        super(path);
+        this(path, refsSup, checkThreshold, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to resource
+     * @param refsSup RefsSupplier object
+     * @param checkThreshold long value
+     * @param watcher ResourceWatcher object; null to poll the file once per check threshold.
+     */
+    public AbstractResource(@Nonnull final Path path, @Nonnull final RefsSupplier refsSup, final long checkThreshold,
+                            @Nullable final ResourceWatcher watcher) {
+        this(path, refsSup, checkThreshold, watcher, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to resource
+     * @param refsSup RefsSupplier object
+     * @param checkThreshold long value
+     * @param watcher ResourceWatcher object; null to poll the file once per check threshold
+     * @param governor ParseGovernor of parses; null to not limit them.
+     */
+    public AbstractResource(@Nonnull final Path path, @Nonnull final RefsSupplier refsSup, final long checkThreshold,
+                            @Nullable final ResourceWatcher watcher, @Nullable final ParseGovernor governor) {
+        super(path, watcher, governor);
         this.refsSup = refsSup;
         this.defaultCheckThreshold = checkThreshold;
     }
@@ -271,9 +311,7 @@ public abstract class AbstractResource<T> extends ResourceState<T> {
      */
     protected ResourceStatus beforeCollaborationHierarchyUpdate() {
         ResourceStatus status = beforeCollaborationUpdate();
-        Iterator<AbstractResource<FormulaEvaluator>> allrefs = getAllRefsTree();
-        while (allrefs.hasNext()) {
-            AbstractResource<FormulaEvaluator> ref = allrefs.next();
+        for (AbstractResource<FormulaEvaluator> ref : getAllRefs()) {
             ref.beforeCollaborationUpdate();
         }
         return status;
@@ -290,12 +328,15 @@ public abstract class AbstractResource<T> extends ResourceState<T> {
     protected boolean updateMyRefsTree() throws Exception  {
         boolean somethingChanged = shouldUpdateRefs;
         updateMyRefs();
-        Iterator<AbstractResource<FormulaEvaluator>> allrefs = getAllRefsTree();
-        while (allrefs.hasNext()) {
-            AbstractResource<FormulaEvaluator> ref = allrefs.next();
-            somethingChanged = somethingChanged || ref.shouldUpdateRefs;
-            ref.updateMyRefs();
-        }
+        long version;
+        do {
+            // refs added while updating are not in the flattened tree; it is taken again to update them too
+            version = REFS_VERSION.get();
+            for (AbstractResource<FormulaEvaluator> ref : getAllRefs()) {
+                somethingChanged = somethingChanged || ref.shouldUpdateRefs;
+                ref.updateMyRefs();
+            }
+        } while (version != REFS_VERSION.get());
         return somethingChanged;
     }
 
@@ -330,6 +371,7 @@ public abstract class AbstractResource<T> extends ResourceState<T> {
             ref.refsToMe = new HashSet<>();
         }
         ref.refsToMe.add(this);
+        REFS_VERSION.incrementAndGet();
     }
 
     @Nullable
@@ -344,6 +386,7 @@ public abstract class AbstractResource<T> extends ResourceState<T> {
         if (removed.refsToMe != null) {
             removed.refsToMe.remove(this);
         }
+        REFS_VERSION.incrementAndGet();
         return removed;
     }
 
@@ -409,7 +452,27 @@ public abstract class AbstractResource<T> extends ResourceState<T> {
     @Override
     @Nonnull
     public Iterator<AbstractResource<FormulaEvaluator>> getAllRefsTree() {
-        return myRefs == null ? Collections.emptyIterator() : getAllRefsTree(myRefs.values().iterator());
+        return getAllRefs().iterator();
+    }
+
+    /**
+     * Get all references tree flattened in the order of {@link #getAllRefsTree(Iterator)}.
+     * The tree is walked only if the graph of references is changed since the last walk,
+     * so the cost of access to the resource does not depend on depth of the tree.
+     *
+     * @return unmodifiable List of AbstractResources.
+     */
+    @Nonnull
+    protected List<AbstractResource<FormulaEvaluator>> getAllRefs() {
+        long version = REFS_VERSION.get();
+        FlatRefs result = allRefs;
+        if (result == null || result.version != version) {
+            result = new FlatRefs(version, myRefs == null
+                    ? ImmutableList.of()
+                    : ImmutableList.copyOf(getAllRefsTree(myRefs.values().iterator())));
+            allRefs = result;
+        }
+        return result.refs;
     }
 
     /**
@@ -484,4 +547,22 @@ public abstract class AbstractResource<T> extends ResourceState<T> {
     public String toString() {
         return "[" + getStatus() + "|DataSet|" + getPath() + "]";
     }
+
+    private static final class FlatRefs {
+
+        /**
+         * Version of the graph of references the tree is flattened at.
+         */
+        private final long version;
+
+        /**
+         * All references tree flattened.
+         */
+        private final ImmutableList<AbstractResource<FormulaEvaluator>> refs;
+
+        private FlatRefs(final long version, @Nonnull final ImmutableList<AbstractResource<FormulaEvaluator>> refs) {
+            this.version = version;
+            this.refs = refs;
+        }
+    }
 }
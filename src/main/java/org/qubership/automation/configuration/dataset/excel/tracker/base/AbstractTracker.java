@@ -17,11 +17,22 @@
 
 package org.qubership.automation.configuration.dataset.excel.tracker.base;
 
+import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
@@ -30,15 +41,20 @@ import javax.annotation.Nullable;
 import org.qubership.automation.configuration.dataset.excel.builder.DataSetBuilder;
 import org.qubership.automation.configuration.dataset.excel.core.DSList;
 import org.qubership.automation.configuration.dataset.excel.core.DSLists;
+import org.qubership.automation.configuration.dataset.excel.impl.snapshot.DSListsSnapshot;
 import org.qubership.automation.configuration.dataset.excel.tracker.ResourceUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
-public abstract class AbstractTracker<Param, Params, Vars> {
+public abstract class AbstractTracker<Param, Params, Vars> implements Closeable {
 
     /**
      * Logger.
@@ -70,6 +86,43 @@ public abstract class AbstractTracker<Param, Params, Vars> {
      */
     private final boolean ignoreMissingRefs;
 
+    /**
+     * Snapshots served by {@link #getSnapshot(Path)};
+     * weighed by their estimated retained size if {@link TrackerSettings#cacheMaximumWeight(long)} is set,
+     * otherwise held softly and expired after 5 minutes of inactivity.
+     */
+    private final Cache<Path, SnapshotEntry> snapshots;
+
+    /**
+     * Persistent cache of snapshots; null if snapshots are not persisted.
+     */
+    private final SnapshotFileCache snapshotFiles;
+
+    /**
+     * Watcher of files; null if files are polled.
+     */
+    private final ResourceWatcher watcher;
+
+    /**
+     * Executor of background reloads; null if datasets are reloaded by readers.
+     */
+    private final Executor refreshExecutor;
+
+    /**
+     * Flag if cached resources are weighed, see {@link TrackerSettings#cacheMaximumWeight(long)}.
+     */
+    private final boolean weighed;
+
+    /**
+     * Admission control of workbook parses; null if parses are not limited.
+     */
+    private final ParseGovernor governor;
+
+    /**
+     * Listeners of reloads of datasets.
+     */
+    private final List<DataSetListener> listeners = new CopyOnWriteArrayList<>();
+
     /**
      * Constructor.
      *
@@ -78,35 +131,173 @@ public abstract class AbstractTracker<Param, Params, Vars> {
      * @param ignoreMissingRefs Flag ignore missing references or not.
      */
     public AbstractTracker(final Path watchDir, final long checkThreshold, final boolean ignoreMissingRefs) {
+        this(watchDir, TrackerSettings.create().checkThreshold(checkThreshold).ignoreMissingRefs(ignoreMissingRefs));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param watchDir Path to directory to track
+     * @param settings TrackerSettings object.
+     */
+    public AbstractTracker(final Path watchDir, @Nonnull final TrackerSettings settings) {
         this.watchDir = watchDir;
-        this.checkThreshold = checkThreshold;
-        this.extRefs = new ExternalRefsSupplier(checkThreshold, ignoreMissingRefs);
-        this.ignoreMissingRefs = ignoreMissingRefs;
-        cache = CacheBuilder.newBuilder().expireAfterAccess(5, TimeUnit.MINUTES)
-                .weakValues().build(new CacheLoader<Path, DataSetListResource<Param, Params, Vars>>() {
+        this.checkThreshold = settings.getCheckThreshold();
+        this.ignoreMissingRefs = settings.isIgnoreMissingRefs();
+        this.refreshExecutor = settings.getRefreshExecutor();
+        this.watcher = settings.isWatchFiles() ? createWatcher(watchDir) : null;
+        long maximumWeight = settings.getCacheMaximumWeight();
+        this.weighed = maximumWeight > 0;
+        // the budget is split: a half for datasets, a quarter for referenced workbooks and a quarter for snapshots
+        long quarterWeight = weighed ? Math.max(1, maximumWeight / 4) : 0;
+        long halfWeight = weighed ? Math.max(1, maximumWeight - 2 * quarterWeight) : 0;
+        this.governor = settings.getParseGovernor();
+        this.extRefs = new ExternalRefsSupplier(checkThreshold, ignoreMissingRefs, watcher, quarterWeight, governor);
+        this.snapshots = newSnapshotsCache(quarterWeight);
+        this.snapshotFiles = settings.getSnapshotCacheDir() == null
+                ? null : new SnapshotFileCache(settings.getSnapshotCacheDir(), snapshotFingerprint(settings));
+        CacheBuilder<Path, DataSetListResource<Param, Params, Vars>> builder
+                = ResourceWeigher.newCacheBuilder(halfWeight);
+        cache = builder.build(new CacheLoader<Path, DataSetListResource<Param, Params, Vars>>() {
             @Override
             public DataSetListResource<Param, Params, Vars> load(@Nonnull final Path key) {
                 return new DataSetListResource<>(key,
                         AbstractTracker.this.extRefs,
                         AbstractTracker.this.checkThreshold,
                         AbstractTracker.this::build,
-                        AbstractTracker.this.ignoreMissingRefs);
+                        AbstractTracker.this.ignoreMissingRefs,
+                        AbstractTracker.this.watcher,
+                        AbstractTracker.this.refreshExecutor,
+                        AbstractTracker.this.governor,
+                        AbstractTracker.this.listeners);
             }
         });
     }
 
+    @Nonnull
+    private static Cache<Path, SnapshotEntry> newSnapshotsCache(final long maximumWeight) {
+        if (maximumWeight <= 0) {
+            // snapshots are not referenced by their entries, so they are held softly rather than weakly
+            return CacheBuilder.newBuilder().expireAfterAccess(5, TimeUnit.MINUTES).softValues().build();
+        }
+        // single segment: the limit is applied to all entries instead of being split between segments
+        return CacheBuilder.newBuilder().concurrencyLevel(1).maximumWeight(maximumWeight)
+                .<Path, SnapshotEntry>weigher((path, entry) -> Math.max(1, Ints.saturatedCast(entry.size)))
+                .build();
+    }
+
+    @Nonnull
+    private String snapshotFingerprint(@Nonnull final TrackerSettings settings) {
+        String fingerprint = settings.getSnapshotFingerprint();
+        return fingerprint == null ? getClass().getName() : getClass().getName() + '/' + fingerprint;
+    }
+
+    @Nullable
+    private static ResourceWatcher createWatcher(@Nonnull final Path watchDir) {
+        try {
+            ResourceWatcher result = new ResourceWatcher();
+            result.watchDir(ResourceWatcher.key(watchDir));
+            return result;
+        } catch (IOException e) {
+            LOGGER.warn("Can not watch files, they will be polled", e);
+            return null;
+        }
+    }
+
     /**
      * Get all datasets.
+     * If files are watched, the directory is not listed; content known by the watcher is used.
      *
      * @return Stream of Resources.
      */
     @Nullable
     public Stream<Resource<Map<String, DSList<Param, Params, Vars>>>> getAllDataSets() {
-        File[] files = watchDir.toFile().listFiles(ResourceUtils.DATASET_FILTER);
-        if (files == null || files.length == 0) {
-            return null;
+        Path[] paths = listDataSets();
+        return paths.length == 0 ? null : Arrays.stream(paths).map(this::getDataSet);
+    }
+
+    /**
+     * Load all datasets of the directory in background, with their references,
+     * so the first readers do not pay for parsing.
+     * Datasets are loaded by the given number of tasks of the refresh executor
+     * (see {@link TrackerSettings#refreshExecutor(Executor)}), each task loads them one by one,
+     * so no more than that number of workbooks are parsed at once and other tasks of the executor are not starved.
+     * If there is no refresh executor, a pool of daemon threads is used and shut down when all are loaded.
+     * Loaded resources are kept by the tracker cache as usual, so warm-up is useful with a weighed cache
+     * (see {@link TrackerSettings#cacheMaximumWeight(long)}): weakly held resources are released
+     * by the next GC if nobody uses them, so a warning is logged then; datasets above the limit are evicted again.
+     *
+     * @param parallelism int maximum count of datasets loaded at once
+     * @param listener WarmUpListener notified of each dataset loaded; null if progress is not tracked
+     * @return CompletableFuture completed when all datasets are loaded; exceptionally if the listener fails.
+     */
+    @Nonnull
+    public CompletableFuture<Void> warmUp(final int parallelism, @Nullable final WarmUpListener listener) {
+        Preconditions.checkArgument(parallelism > 0, "Parallelism should be positive: %s", parallelism);
+        Path[] paths = listDataSets();
+        if (paths.length == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!weighed) {
+            LOGGER.warn("Warm-up of [{}]: cached resources are held weakly and will be released by the next GC,"
+                    + " set the maximum weight of the cache to keep them", watchDir);
+        }
+        int workers = Math.min(parallelism, paths.length);
+        ExecutorService pool = refreshExecutor != null ? null : Executors.newFixedThreadPool(workers,
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("dataset-warm-up-%d").build());
+        Executor executor = pool == null ? refreshExecutor : pool;
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger done = new AtomicInteger();
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                for (int idx = next.getAndIncrement(); idx < paths.length; idx = next.getAndIncrement()) {
+                    Resource<?> resource = getDataSet(paths[idx]);
+                    int count = done.incrementAndGet();
+                    if (listener != null) {
+                        listener.onLoaded(resource, count, paths.length);
+                    }
+                }
+            }, executor);
+        }
+        CompletableFuture<Void> result = CompletableFuture.allOf(tasks);
+        if (pool != null) {
+            result.whenComplete((ignored, e) -> pool.shutdown());
+        }
+        return result;
+    }
+
+    @Nonnull
+    private Path[] listDataSets() {
+        Set<Path> watched = watcher == null ? null : watcher.getFiles(ResourceWatcher.key(watchDir));
+        if (watched != null) {
+            return watched.stream()
+                    .filter(path -> ResourceUtils.isDataSetName(path.getFileName().toString()))
+                    .toArray(Path[]::new);
         }
-        return Arrays.stream(files).map(file -> getDataSet(file.toPath()));
+        File[] files = watchDir.toFile().listFiles(ResourceUtils.DATASET_FILTER);
+        return files == null ? new Path[0] : Arrays.stream(files).map(File::toPath).toArray(Path[]::new);
+    }
+
+    /**
+     * Add listener of reloads of datasets. Listeners are notified with differences between versions,
+     * so derived data can be invalidated precisely; see {@link DataSetListener}.
+     * Snapshots of datasets are taken on each reload while there are listeners.
+     *
+     * @param listener DataSetListener to add.
+     */
+    public void addListener(@Nonnull final DataSetListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove listener of reloads of datasets.
+     *
+     * @param listener DataSetListener to remove
+     * @return true if the listener was added before.
+     */
+    public boolean removeListener(@Nonnull final DataSetListener listener) {
+        return listeners.remove(listener);
     }
 
     /**
@@ -119,6 +310,7 @@ public abstract class AbstractTracker<Param, Params, Vars> {
     public Resource<Map<String, DSList<Param, Params, Vars>>> getDataSet(@Nonnull final Path path) {
         DataSetListResource<Param, Params, Vars> result = cache.getUnchecked(path);
         result.getResource();
+        reweigh(path, result);
         if (result.getStatus() != ResourceStatus.SAME) {
             LOGGER.info("[{}] DataSet [{}]", result.getStatus(), result.getPath(),
                     result.getLastException().orElse(null));
@@ -126,6 +318,75 @@ public abstract class AbstractTracker<Param, Params, Vars> {
         return result;
     }
 
+    /**
+     * Get snapshot of dataset by path: workbook-independent copy of evaluated DSLists.
+     * Snapshots are kept by the tracker, while resources (and workbooks) may be released
+     * as soon as they are not used; if {@link TrackerSettings#cacheMaximumWeight(long)} is set,
+     * the least recently used snapshots are released too once their total estimated size exceeds its share,
+     * otherwise snapshots are released under memory pressure or after 5 minutes of inactivity.
+     * Snapshot is served without loading the resource if the file is not changed
+     * and values of the snapshot do not depend on other files.
+     * If {@link TrackerSettings#getSnapshotCacheDir()} is set, such snapshots are also persisted,
+     * so they are served without parsing of the file after restart too,
+     * as long as {@link TrackerSettings#getSnapshotFingerprint()} is the same.
+     *
+     * @param path Path of dataset
+     * @return Optional of DSListsSnapshot; empty if dataset is not available.
+     */
+    @Nonnull
+    public Optional<DSListsSnapshot> getSnapshot(@Nonnull final Path path) {
+        SnapshotEntry entry = snapshots.getIfPresent(path);
+        if (entry != null && entry.isActual(checkThreshold, getStamp(path))) {
+            return Optional.of(entry.snapshot);
+        }
+        if (entry == null && snapshotFiles != null) {
+            File file = path.toFile();
+            long stamp = getStamp(path);
+            long lastModified = file.lastModified();
+            long length = file.length();
+            Optional<DSListsSnapshot> persisted = snapshotFiles.read(path, length, lastModified);
+            if (persisted.isPresent()) {
+                long size = weighed ? ResourceUtils.estimateRetainedSize(persisted.get()) : 0;
+                snapshots.put(path, new SnapshotEntry(persisted.get(), size, file, true, lastModified, length,
+                        stamp));
+                return persisted;
+            }
+        }
+        DataSetListResource<Param, Params, Vars> resource = cache.getUnchecked(path);
+        DataSetListResource.TakenSnapshot taken = resource.getTakenSnapshot();
+        reweigh(path, resource);
+        if (resource.getStatus() != ResourceStatus.SAME) {
+            LOGGER.info("[{}] DataSet [{}]", resource.getStatus(), resource.getPath(),
+                    resource.getLastException().orElse(null));
+        }
+        if (taken == null) {
+            snapshots.invalidate(path);
+            if (snapshotFiles != null) {
+                snapshotFiles.remove(path);
+            }
+            return Optional.empty();
+        }
+        // the file may be reloaded in background, so the state is taken along with the snapshot
+        boolean standalone = !taken.snapshot.hasFormulas() || resource.getMyRefs().isEmpty();
+        snapshots.put(path, new SnapshotEntry(taken.snapshot, taken.size, resource.getFile(), standalone,
+                taken.lastModified, taken.length, taken.stamp));
+        if (snapshotFiles != null && standalone && (entry == null || entry.snapshot != taken.snapshot
+                || entry.lastModified != taken.lastModified || entry.length != taken.length)) {
+            snapshotFiles.write(path, taken.length, taken.lastModified, taken.snapshot);
+        }
+        return Optional.of(taken.snapshot);
+    }
+
+    private void reweigh(@Nonnull final Path path, @Nonnull final DataSetListResource<Param, Params, Vars> resource) {
+        if (weighed) {
+            ResourceWeigher.reweigh(cache.asMap(), path, resource);
+        }
+    }
+
+    private long getStamp(@Nonnull final Path path) {
+        return watcher == null ? ResourceWatcher.NOT_WATCHED : watcher.getStamp(ResourceWatcher.key(path));
+    }
+
     /**
      * Build dataset lists.
      *
@@ -140,7 +401,91 @@ public abstract class AbstractTracker<Param, Params, Vars> {
      */
     public void clearCaches() {
         cache.invalidateAll();
+        snapshots.invalidateAll();
         extRefs.clearCache();
     }
 
+    /**
+     * Stop watching files, if they are watched. Files are polled from now on.
+     *
+     * @throws IOException in case IO errors occurred.
+     */
+    @Override
+    public void close() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    private static class SnapshotEntry {
+
+        /**
+         * Snapshot taken.
+         */
+        private final DSListsSnapshot snapshot;
+
+        /**
+         * Estimated retained size of the snapshot, bytes; 0 if it is not weighed.
+         */
+        private final long size;
+
+        /**
+         * File of the dataset.
+         */
+        private final File file;
+
+        /**
+         * Flag if the snapshot depends on the file only.
+         */
+        private final boolean standalone;
+
+        /**
+         * Last modification time of the file when the snapshot was taken.
+         */
+        private final long lastModified;
+
+        /**
+         * Length of the file when the snapshot was taken.
+         */
+        private final long length;
+
+        /**
+         * Time of the last check of the file.
+         */
+        private volatile long lastChecked;
+
+        /**
+         * Stamp of the file at the last check; {@link ResourceWatcher#NOT_WATCHED} if the file is polled.
+         */
+        private volatile long stamp;
+
+        private SnapshotEntry(@Nonnull final DSListsSnapshot snapshot, final long size, @Nonnull final File file,
+                              final boolean standalone, final long lastModified, final long length,
+                              final long stamp) {
+            this.stamp = stamp;
+            this.snapshot = snapshot;
+            this.size = size;
+            this.file = file;
+            this.standalone = standalone;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.lastChecked = System.currentTimeMillis();
+        }
+
+        private boolean isActual(final long checkThreshold, final long curStamp) {
+            if (!standalone) {
+                return false;
+            }
+            long curTime = System.currentTimeMillis();
+            if (curStamp != ResourceWatcher.NOT_WATCHED ? curStamp == stamp : curTime - lastChecked < checkThreshold) {
+                return true;
+            }
+            boolean actual = file.lastModified() == lastModified && file.length() == length;
+            if (actual) {
+                lastChecked = curTime;
+                stamp = curStamp;
+            }
+            return actual;
+        }
+    }
 }
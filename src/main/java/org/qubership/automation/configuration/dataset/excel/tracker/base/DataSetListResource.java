@@ -20,9 +20,16 @@ package org.qubership.automation.configuration.dataset.excel.tracker.base;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -30,17 +37,29 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.qubership.automation.configuration.dataset.excel.builder.DataSetBuilder;
 import org.qubership.automation.configuration.dataset.excel.core.DSList;
 import org.qubership.automation.configuration.dataset.excel.core.DSLists;
+import org.qubership.automation.configuration.dataset.excel.impl.snapshot.DSListSnapshot;
+import org.qubership.automation.configuration.dataset.excel.impl.snapshot.DSListsDiff;
+import org.qubership.automation.configuration.dataset.excel.impl.snapshot.DSListsSnapshot;
 import org.qubership.automation.configuration.dataset.excel.tracker.ResourceUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
 public class DataSetListResource<Param, Params, Vars> extends AbstractResource<Map<String, DSList<Param, Params, Vars>>> {
 
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSetListResource.class);
+
     /**
      * Function to build DataSetList.
      */
@@ -76,6 +95,91 @@ public class DataSetListResource<Param, Params, Vars> extends AbstractResource<M
      */
     private Set<String> refsPath;
 
+    /**
+     * Snapshot of the resource with the lists it is taken from; taken on demand, read without locking.
+     */
+    private volatile TakenSnapshot snapshot;
+
+    /**
+     * Flag if snapshots are requested; then they are taken by background reloads too.
+     */
+    private volatile boolean snapshotsUsed;
+
+    /**
+     * Estimated retained size of the workbook, bytes; the last snapshot is added to it.
+     */
+    private long workbookSize;
+
+    /**
+     * Names of package parts of sheets of the workbook.
+     */
+    private Map<String, String> sheetParts;
+
+    /**
+     * The last snapshot taken; kept across updates, so its lists of unchanged sheets are reused.
+     */
+    private DSListsSnapshot lastSnapshot;
+
+    /**
+     * Checksums of package parts of the file the last snapshot is taken from.
+     */
+    private Map<String, Long> lastSnapshotParts;
+
+    /**
+     * Estimated retained size of the last snapshot, bytes.
+     */
+    private long lastSnapshotSize;
+
+    /**
+     * Executor of background reloads; null if the resource is reloaded by readers.
+     */
+    private final Executor refreshExecutor;
+
+    /**
+     * Resource as of the last reload; served by readers while the next reload is in progress.
+     */
+    private volatile Map<String, DSList<Param, Params, Vars>> lastLoaded;
+
+    /**
+     * Flag if the resource was loaded at least once.
+     */
+    private volatile boolean loaded;
+
+    /**
+     * Time of the last scheduled reload.
+     */
+    private volatile long lastScheduled;
+
+    /**
+     * Version of watched files of the resource at the last scheduled reload, see {@link #getWatchedVersion()}.
+     */
+    private volatile long lastScheduledVersion;
+
+    /**
+     * All references of the resource as of the last reload; their stamps are checked by readers.
+     */
+    private volatile List<AbstractResource<FormulaEvaluator>> watchedRefs = Collections.emptyList();
+
+    /**
+     * Flag if a background reload is in progress.
+     */
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    /**
+     * Listeners of reloads; null if there are no listeners.
+     */
+    private final Collection<DataSetListener> listeners;
+
+    /**
+     * Snapshot listeners were notified of last; null if there were no DSLists. Guarded by {@link #notifyLock}.
+     */
+    private DSListsSnapshot notifiedSnapshot;
+
+    /**
+     * Lock of notifications of listeners, so they are notified in order without holding the resource.
+     */
+    private final Object notifyLock = new Object();
+
     /**
      * Constructor.
      *
@@ -90,9 +194,231 @@ public class DataSetListResource<Param, Params, Vars> extends AbstractResource<M
                                final long checkThreshold,
                                @Nonnull final Function<DataSetBuilder, DSLists<Param, Params, Vars>> builder,
                                final boolean ignoreMissingRefs) {
-        super(path, refsSup, checkThreshold);
+        this(path, refsSup, checkThreshold, builder, ignoreMissingRefs, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to DataSetList file
+     * @param refsSup References Supplier object
+     * @param checkThreshold long threshold value
+     * @param builder DataSetList builder object
+     * @param ignoreMissingRefs flag to ignore missing references or not
+     * @param watcher ResourceWatcher object; null to poll the file once per check threshold.
+     */
+    public DataSetListResource(@Nonnull final Path path,
+                               @Nonnull final RefsSupplier refsSup,
+                               final long checkThreshold,
+                               @Nonnull final Function<DataSetBuilder, DSLists<Param, Params, Vars>> builder,
+                               final boolean ignoreMissingRefs,
+                               @Nullable final ResourceWatcher watcher) {
+        this(path, refsSup, checkThreshold, builder, ignoreMissingRefs, watcher, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to DataSetList file
+     * @param refsSup References Supplier object
+     * @param checkThreshold long threshold value
+     * @param builder DataSetList builder object
+     * @param ignoreMissingRefs flag to ignore missing references or not
+     * @param watcher ResourceWatcher object; null to poll the file once per check threshold
+     * @param refreshExecutor Executor of background reloads, see {@link #getResource()};
+     *                        null to reload the resource by readers.
+     */
+    public DataSetListResource(@Nonnull final Path path,
+                               @Nonnull final RefsSupplier refsSup,
+                               final long checkThreshold,
+                               @Nonnull final Function<DataSetBuilder, DSLists<Param, Params, Vars>> builder,
+                               final boolean ignoreMissingRefs,
+                               @Nullable final ResourceWatcher watcher,
+                               @Nullable final Executor refreshExecutor) {
+        this(path, refsSup, checkThreshold, builder, ignoreMissingRefs, watcher, refreshExecutor, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to DataSetList file
+     * @param refsSup References Supplier object
+     * @param checkThreshold long threshold value
+     * @param builder DataSetList builder object
+     * @param ignoreMissingRefs flag to ignore missing references or not
+     * @param watcher ResourceWatcher object; null to poll the file once per check threshold
+     * @param refreshExecutor Executor of background reloads, see {@link #getResource()};
+     *                        null to reload the resource by readers
+     * @param governor ParseGovernor of parses; null to not limit them.
+     */
+    public DataSetListResource(@Nonnull final Path path,
+                               @Nonnull final RefsSupplier refsSup,
+                               final long checkThreshold,
+                               @Nonnull final Function<DataSetBuilder, DSLists<Param, Params, Vars>> builder,
+                               final boolean ignoreMissingRefs,
+                               @Nullable final ResourceWatcher watcher,
+                               @Nullable final Executor refreshExecutor,
+                               @Nullable final ParseGovernor governor) {
+        this(path, refsSup, checkThreshold, builder, ignoreMissingRefs, watcher, refreshExecutor, governor, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to DataSetList file
+     * @param refsSup References Supplier object
+     * @param checkThreshold long threshold value
+     * @param builder DataSetList builder object
+     * @param ignoreMissingRefs flag to ignore missing references or not
+     * @param watcher ResourceWatcher object; null to poll the file once per check threshold
+     * @param refreshExecutor Executor of background reloads, see {@link #getResource()};
+     *                        null to reload the resource by readers
+     * @param governor ParseGovernor of parses; null to not limit them
+     * @param listeners Collection of DataSetListeners notified of reloads; it may be changed later,
+     *                  so a thread-safe one should be given; null if there are no listeners.
+     */
+    public DataSetListResource(@Nonnull final Path path,
+                               @Nonnull final RefsSupplier refsSup,
+                               final long checkThreshold,
+                               @Nonnull final Function<DataSetBuilder, DSLists<Param, Params, Vars>> builder,
+                               final boolean ignoreMissingRefs,
+                               @Nullable final ResourceWatcher watcher,
+                               @Nullable final Executor refreshExecutor,
+                               @Nullable final ParseGovernor governor,
+                               @Nullable final Collection<DataSetListener> listeners) {
+        super(path, refsSup, checkThreshold, watcher, governor);
+        this.listeners = listeners;
         this.builder = builder;
         this.ignoreMissingRefs = ignoreMissingRefs;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Get resource.
+     * If there is a refresh executor, only the first load is done by the reader.
+     * Then readers get the resource as of the last reload without locking,
+     * while checks for modifications and reloads are done in background;
+     * reloaded resource replaces the previous one when it is ready.
+     *
+     * @return Optional of Map of DataSetLists.
+     */
+    @Override
+    public Optional<Map<String, DSList<Param, Params, Vars>>> getResource() {
+        if (refreshExecutor == null || !loaded) {
+            return reload();
+        }
+        if (isReloadDue()) {
+            scheduleReload();
+        }
+        return Optional.ofNullable(lastLoaded);
+    }
+
+    private Optional<Map<String, DSList<Param, Params, Vars>>> reload() {
+        Map<String, DSList<Param, Params, Vars>> previous;
+        Optional<Map<String, DSList<Param, Params, Vars>>> result;
+        boolean deleted;
+        synchronized (this) {
+            previous = lastLoaded;
+            result = super.getResource();
+            if (refreshExecutor != null && snapshotsUsed && result.isPresent()) {
+                // the snapshot is published before the resource, so readers do not wait for it
+                snapshot(result.get());
+            }
+            lastLoaded = result.orElse(null);
+            loaded = true;
+            watchedRefs = getAllRefs();
+            deleted = !exists;
+        }
+        if (result.orElse(null) != previous && listeners != null && !listeners.isEmpty()) {
+            notifyListeners(result.orElse(null), deleted);
+        }
+        return result;
+    }
+
+    /**
+     * Notify listeners of the difference between the version they were notified of last and the loaded one.
+     * Versions which failed to load or to be evaluated are skipped, so listeners are notified of the difference
+     * to the last valid version once the file is fixed. Invoked without holding the resource.
+     *
+     * @param lists the loaded version; null if there is no resource
+     * @param deleted flag if the file is deleted; otherwise the absent resource failed to load.
+     */
+    private void notifyListeners(@Nullable final Map<String, DSList<Param, Params, Vars>> lists,
+                                 final boolean deleted) {
+        synchronized (notifyLock) {
+            DSListsSnapshot after;
+            if (lists == null) {
+                if (!deleted) {
+                    return;
+                }
+                after = null;
+            } else {
+                if (lists != lastLoaded) {
+                    // a newer version is loaded already, listeners are notified of it
+                    return;
+                }
+                TakenSnapshot taken = snapshot;
+                if (taken == null || taken.lists != lists) {
+                    taken = snapshot();
+                }
+                if (taken == null || taken.lists != lists) {
+                    return;
+                }
+                after = taken.snapshot;
+            }
+            DSListsSnapshot before = notifiedSnapshot;
+            if (after == before) {
+                return;
+            }
+            notifiedSnapshot = after;
+            DSListsDiff diff = DSListsDiff.of(path.toString(), before, after);
+            for (DataSetListener listener : listeners) {
+                try {
+                    listener.onReload(this, diff);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Listener [{}] failed on reload of [{}]", listener, path, e);
+                }
+            }
+        }
+    }
+
+    private boolean isReloadDue() {
+        return System.currentTimeMillis() - lastScheduled >= defaultCheckThreshold
+                || watcher != null && getWatchedVersion() != lastScheduledVersion;
+    }
+
+    /**
+     * Get version of watched files of the resource: the file itself and all files it refers to,
+     * so changes of other files of the directory do not cause reloads.
+     *
+     * @return long version; it is the same while none of the files is changed.
+     */
+    private long getWatchedVersion() {
+        long result = getWatchedStamp();
+        for (AbstractResource<FormulaEvaluator> ref : watchedRefs) {
+            result = 31 * result + ref.getWatchedStamp();
+        }
+        return result;
+    }
+
+    private void scheduleReload() {
+        if (!reloading.compareAndSet(false, true)) {
+            return;
+        }
+        lastScheduled = System.currentTimeMillis();
+        lastScheduledVersion = watcher == null ? 0 : getWatchedVersion();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    reload();
+                } finally {
+                    reloading.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            reloading.set(false);
+            LOGGER.warn("Can not schedule reload of [{}]", path, e);
+        }
     }
 
     /**
@@ -106,6 +432,16 @@ public class DataSetListResource<Param, Params, Vars> extends AbstractResource<M
     protected void beforeCollaboration(@Nonnull final Path path, @Nonnull final File file) throws Exception {
         Workbook wb = ResourceUtils.doWorkBook(file);
         refsPath = ResourceUtils.getRefs(wb);
+        Map<String, String> partNames = Maps.newHashMapWithExpectedSize(wb.getNumberOfSheets());
+        for (Sheet sheet : wb) {
+            String partName = ResourceUtils.getPartName(sheet);
+            if (partName != null) {
+                partNames.put(sheet.getSheetName(), partName);
+            }
+        }
+        sheetParts = partNames;
+        workbookSize = ResourceUtils.estimateRetainedSize(wb, length);
+        estimatedRetainedSize = workbookSize;
         ds = builder.apply(DataSetBuilder.create(new Supplier<Workbook>() {
             @Override
             public Workbook get() {
@@ -130,6 +466,8 @@ public class DataSetListResource<Param, Params, Vars> extends AbstractResource<M
             eval = ds.getEvaluationContext().evaluator();
             eval.setIgnoreMissingWorkbooks(ignoreMissingRefs);
             resource = null;
+            // the snapshot of the previous version is kept for readers, it is replaced when a new one is taken
+            estimatedRetainedSize = workbookSize + lastSnapshotSize;
         }
     }
 
@@ -146,7 +484,7 @@ public class DataSetListResource<Param, Params, Vars> extends AbstractResource<M
         // ds can not be null here because beforeCollaboration done without errors
         // listsIter can not be null here because onAnyRefUpdate should be invoked
         if (resource == null) {
-            Map<String, DSList<Param, Params, Vars>> result = Maps.newHashMap();
+            Map<String, DSList<Param, Params, Vars>> result = Maps.newLinkedHashMap();
             while (listsIter.hasNext()) {
                 DSList<Param, Params, Vars> list = listsIter.next();
                 result.put(list.getName(), list);
@@ -155,6 +493,101 @@ public class DataSetListResource<Param, Params, Vars> extends AbstractResource<M
         }
     }
 
+    /**
+     * Get snapshot of the resource: workbook-independent copy of evaluated DSLists.
+     * The snapshot is taken once per resource update; then it is served without locking.
+     * If there is a refresh executor, snapshots of reloaded versions are taken in background too.
+     *
+     * @return Optional of DSListsSnapshot; empty if there is no resource.
+     */
+    public Optional<DSListsSnapshot> getSnapshot() {
+        TakenSnapshot taken = getTakenSnapshot();
+        return taken == null ? Optional.empty() : Optional.of(taken.snapshot);
+    }
+
+    /**
+     * Get snapshot of the resource with the state of the file it is taken from, see {@link #getSnapshot()}.
+     *
+     * @return TakenSnapshot or null if there is no resource.
+     */
+    @Nullable
+    TakenSnapshot getTakenSnapshot() {
+        snapshotsUsed = true;
+        Optional<Map<String, DSList<Param, Params, Vars>>> lists = getResource();
+        if (!lists.isPresent()) {
+            return null;
+        }
+        TakenSnapshot taken = snapshot;
+        if (taken != null && taken.lists == lists.get()) {
+            return taken;
+        }
+        return snapshot();
+    }
+
+    /**
+     * Take snapshot of the last loaded version, unless it is taken already.
+     *
+     * @return TakenSnapshot or null if there is no resource or the snapshot can not be taken.
+     */
+    @Nullable
+    private synchronized TakenSnapshot snapshot() {
+        return lastLoaded == null ? null : snapshot(lastLoaded);
+    }
+
+    /**
+     * Take snapshot of the lists given, unless it is taken already. Invoked under the lock of the resource.
+     *
+     * @param lists the current version of the resource
+     * @return TakenSnapshot or null if the snapshot can not be taken.
+     */
+    @Nullable
+    private TakenSnapshot snapshot(@Nonnull final Map<String, DSList<Param, Params, Vars>> lists) {
+        TakenSnapshot taken = snapshot;
+        if (taken != null && taken.lists == lists) {
+            return taken;
+        }
+        try {
+            DSListsSnapshot result = takeSnapshot(lists.values());
+            lastSnapshot = result;
+            lastSnapshotParts = parts;
+            lastSnapshotSize = ResourceUtils.estimateRetainedSize(result);
+            estimatedRetainedSize = workbookSize + lastSnapshotSize;
+            taken = new TakenSnapshot(lists, result, lastSnapshotSize, lastModified, length, watchedStamp);
+            snapshot = taken;
+            return taken;
+        } catch (RuntimeException e) {
+            lastException = e;
+            return null;
+        }
+    }
+
+    /**
+     * Take snapshot of the DSLists given. Snapshots of the lists without formulas are reused from the last snapshot
+     * if package parts of their sheets are the same, and all parts shared by sheets
+     * (shared strings, styles, workbook, etc.) are the same too.
+     *
+     * @param lists DSLists of the resource
+     * @return DSListsSnapshot taken.
+     */
+    @Nonnull
+    private DSListsSnapshot takeSnapshot(@Nonnull final Collection<DSList<Param, Params, Vars>> lists) {
+        boolean reuse = lastSnapshot != null && !parts.isEmpty()
+                && Maps.filterKeys(parts, name -> !ResourceUtils.isSheetPart(name))
+                .equals(Maps.filterKeys(lastSnapshotParts, name -> !ResourceUtils.isSheetPart(name)));
+        List<DSListSnapshot> result = Lists.newArrayListWithCapacity(lists.size());
+        for (DSList<Param, Params, Vars> list : lists) {
+            DSListSnapshot previous = reuse ? lastSnapshot.getList(list.getName()) : null;
+            String partName = sheetParts.get(list.getName());
+            if (previous != null && !previous.hasFormulas() && partName != null && parts.containsKey(partName)
+                    && parts.get(partName).equals(lastSnapshotParts.get(partName))) {
+                result.add(previous);
+            } else {
+                result.add(DSListsSnapshot.of(list));
+            }
+        }
+        return new DSListsSnapshot(path.toString(), result);
+    }
+
     /**
      * Get myRefs.
      *
@@ -199,8 +632,60 @@ public class DataSetListResource<Param, Params, Vars> extends AbstractResource<M
         ds = null;
         eval = null;
         resource = null;
+        snapshot = null;
         refsPath = null;
         listsIter = null;
+        workbookSize = 0;
+        sheetParts = null;
+        lastSnapshot = null;
+        lastSnapshotParts = null;
+        lastSnapshotSize = 0;
+    }
+
+    /**
+     * Snapshot of the resource with the lists and the state of the file it is taken from.
+     */
+    static final class TakenSnapshot {
+
+        /**
+         * Lists the snapshot is taken from.
+         */
+        private final Map<String, ?> lists;
+
+        /**
+         * Snapshot taken.
+         */
+        final DSListsSnapshot snapshot;
+
+        /**
+         * Estimated retained size of the snapshot, bytes.
+         */
+        final long size;
+
+        /**
+         * Last modification time of the file the snapshot is taken from.
+         */
+        final long lastModified;
+
+        /**
+         * Length of the file the snapshot is taken from.
+         */
+        final long length;
+
+        /**
+         * Stamp of the file the snapshot is taken from; {@link ResourceWatcher#NOT_WATCHED} if the file is polled.
+         */
+        final long stamp;
+
+        private TakenSnapshot(@Nonnull final Map<String, ?> lists, @Nonnull final DSListsSnapshot snapshot,
+                              final long size, final long lastModified, final long length, final long stamp) {
+            this.lists = lists;
+            this.snapshot = snapshot;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.stamp = stamp;
+        }
     }
 
 }
@@ -0,0 +1,45 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.tracker.base;
+
+import javax.annotation.Nonnull;
+
+import org.qubership.automation.configuration.dataset.excel.impl.snapshot.DSListsDiff;
+
+/**
+ * <pre>
+ * Listener of reloads of datasets, see {@link AbstractTracker#addListener(DataSetListener)}.
+ * Invoked after a dataset file is loaded, reloaded or deleted, by the thread which did the reload
+ * (a reader or a worker of the refresh executor), so implementations should be thread-safe and fast.
+ * The difference is made between snapshots of the dataset before and after the reload:
+ * the previous snapshot is the one listeners were notified of last, so the first notification
+ * of a dataset reports all its DSLists as added. Versions which failed to load are not notified of,
+ * so the next valid version is compared with the last valid one.
+ * </pre>
+ */
+@FunctionalInterface
+public interface DataSetListener {
+
+    /**
+     * Handle reload of the dataset.
+     *
+     * @param resource Resource of the dataset reloaded
+     * @param diff DSListsDiff between the previous and the current versions.
+     */
+    void onReload(@Nonnull Resource<?> resource, @Nonnull DSListsDiff diff);
+}
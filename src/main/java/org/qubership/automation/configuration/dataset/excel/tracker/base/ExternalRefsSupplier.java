@@ -22,9 +22,9 @@ import java.nio.file.Paths;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.poi.ss.formula.CollaboratingWorkbooksEnvironment;
 import org.apache.poi.ss.usermodel.FormulaEvaluator;
@@ -32,7 +32,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Maps;
 
 public class ExternalRefsSupplier implements RefsSupplier {
@@ -57,6 +56,21 @@ public class ExternalRefsSupplier implements RefsSupplier {
      */
     private final boolean ignoreMissingRefs;
 
+    /**
+     * Watcher of referenced files; null if they are polled.
+     */
+    private final ResourceWatcher watcher;
+
+    /**
+     * Flag if references are weighed, see {@link ResourceWeigher}.
+     */
+    private final boolean weighed;
+
+    /**
+     * Admission control of parses of referenced files; null if parses are not limited.
+     */
+    private final ParseGovernor governor;
+
     /**
      * Constructor.
      *
@@ -64,9 +78,54 @@ public class ExternalRefsSupplier implements RefsSupplier {
      * @param ignoreMissingRefs Flag to ignore missing references or not
      */
     public ExternalRefsSupplier(final long checkThreshold, final boolean ignoreMissingRefs) {
+        this(checkThreshold, ignoreMissingRefs, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param checkThreshold Check Threshold value
+     * @param ignoreMissingRefs Flag to ignore missing references or not
+     * @param watcher ResourceWatcher of referenced files; null to poll them once per check threshold.
+     */
+    public ExternalRefsSupplier(final long checkThreshold, final boolean ignoreMissingRefs,
+                                @Nullable final ResourceWatcher watcher) {
+        this(checkThreshold, ignoreMissingRefs, watcher, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param checkThreshold Check Threshold value
+     * @param ignoreMissingRefs Flag to ignore missing references or not
+     * @param watcher ResourceWatcher of referenced files; null to poll them once per check threshold
+     * @param maximumWeight long maximum estimated retained size of cached references, bytes;
+     *                      0 to hold them weakly, see {@link TrackerSettings#cacheMaximumWeight(long)}.
+     */
+    public ExternalRefsSupplier(final long checkThreshold, final boolean ignoreMissingRefs,
+                                @Nullable final ResourceWatcher watcher, final long maximumWeight) {
+        this(checkThreshold, ignoreMissingRefs, watcher, maximumWeight, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param checkThreshold Check Threshold value
+     * @param ignoreMissingRefs Flag to ignore missing references or not
+     * @param watcher ResourceWatcher of referenced files; null to poll them once per check threshold
+     * @param maximumWeight long maximum estimated retained size of cached references, bytes;
+     *                      0 to hold them weakly, see {@link TrackerSettings#cacheMaximumWeight(long)}
+     * @param governor ParseGovernor of parses of referenced files; null to not limit them.
+     */
+    public ExternalRefsSupplier(final long checkThreshold, final boolean ignoreMissingRefs,
+                                @Nullable final ResourceWatcher watcher, final long maximumWeight,
+                                @Nullable final ParseGovernor governor) {
+        this.governor = governor;
         this.checkThreshold = checkThreshold;
         this.ignoreMissingRefs = ignoreMissingRefs;
-        existingRefs = CacheBuilder.newBuilder().expireAfterAccess(5, TimeUnit.MINUTES).weakValues().build();
+        this.watcher = watcher;
+        this.weighed = maximumWeight > 0;
+        existingRefs = ResourceWeigher.<FormulaEvalResource>newCacheBuilder(maximumWeight).build();
     }
 
     /**
@@ -87,13 +146,16 @@ public class ExternalRefsSupplier implements RefsSupplier {
             result = existingRefs.get(actual, () -> {
                 FormulaEvalResource resource;
                 resource = new FormulaEvalResource(actual, ExternalRefsSupplier.this, checkThreshold,
-                        ignoreMissingRefs);
+                        ignoreMissingRefs, watcher, governor);
                 resource.beforeCollaborationUpdate();
                 return resource;
             });
         } catch (ExecutionException e) {
             throw new Exception(String.format("Can not resolve reference for [%s] using path [%s]", dependent, actual));
         }
+        if (weighed) {
+            ResourceWeigher.reweigh(existingRefs.asMap(), actual, result);
+        }
         return result;
     }
 
@@ -109,6 +171,10 @@ public class ExternalRefsSupplier implements RefsSupplier {
         Map<String, FormulaEvaluator> actualEnv = Maps.newHashMap();
         while (qwe.hasNext()) {
             AbstractResource<?> res = qwe.next();
+            if (weighed && res instanceof FormulaEvalResource) {
+                // references are reloaded by dependents, so they are weighed again here
+                ResourceWeigher.reweigh(existingRefs.asMap(), res.getPath(), (FormulaEvalResource) res);
+            }
             FormulaEvaluator eval = res.getEval();
             String actualPath = res.getActualPath(ignoreMissingRefs);
             if (eval == null) {
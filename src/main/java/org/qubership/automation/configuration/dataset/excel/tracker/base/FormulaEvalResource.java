@@ -58,7 +58,43 @@ public class FormulaEvalResource extends AbstractResource<FormulaEvaluator> {
                                @Nonnull final RefsSupplier refsSup,
                                final long checkThreshold,
                                final boolean ignoreMissingRefs) {
-        super(path, refsSup, checkThreshold);
+        this(path, refsSup, checkThreshold, ignoreMissingRefs, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to resource
+     * @param refsSup References Supplier object
+     * @param checkThreshold long check threshold value
+     * @param ignoreMissingRefs Flag to ignore missing references or not
+     * @param watcher ResourceWatcher object; null to poll the file once per check threshold.
+     */
+    public FormulaEvalResource(@Nonnull final Path path,
+                               @Nonnull final RefsSupplier refsSup,
+                               final long checkThreshold,
+                               final boolean ignoreMissingRefs,
+                               @Nullable final ResourceWatcher watcher) {
+        this(path, refsSup, checkThreshold, ignoreMissingRefs, watcher, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to resource
+     * @param refsSup References Supplier object
+     * @param checkThreshold long check threshold value
+     * @param ignoreMissingRefs Flag to ignore missing references or not
+     * @param watcher ResourceWatcher object; null to poll the file once per check threshold
+     * @param governor ParseGovernor of parses; null to not limit them.
+     */
+    public FormulaEvalResource(@Nonnull final Path path,
+                               @Nonnull final RefsSupplier refsSup,
+                               final long checkThreshold,
+                               final boolean ignoreMissingRefs,
+                               @Nullable final ResourceWatcher watcher,
+                               @Nullable final ParseGovernor governor) {
+        super(path, refsSup, checkThreshold, watcher, governor);
         this.ignoreMissingRefs = ignoreMissingRefs;
     }
 
@@ -87,6 +123,7 @@ public class FormulaEvalResource extends AbstractResource<FormulaEvaluator> {
         evaluator = wb.getCreationHelper().createFormulaEvaluator();
         evaluator.setIgnoreMissingWorkbooks(ignoreMissingRefs);
         myRefPaths = ResourceUtils.getRefs(wb);
+        estimatedRetainedSize = ResourceUtils.estimateRetainedSize(wb, length);
     }
 
     /**
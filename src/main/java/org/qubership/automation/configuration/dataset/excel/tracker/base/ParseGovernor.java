@@ -0,0 +1,253 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.tracker.base;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Ints;
+
+/**
+ * <pre>
+ * Admission control of workbook parses: parses are weighed by lengths of files,
+ * and total length of files parsed at once does not exceed the budget, so heap used by parses is bounded.
+ * The governor may be shared by several trackers, see {@link TrackerSettings#parseGovernor(ParseGovernor)}.
+ * Parses are admitted in the order of arrival; a file longer than the budget is parsed alone.
+ * A reload of a resource which has a previous version waits no longer than the stale timeout;
+ * if it is not admitted by then, the previous version is served and the file is checked again on the next access.
+ * The first load of a resource waits as long as needed.
+ * </pre>
+ */
+public class ParseGovernor {
+
+    /**
+     * Size of a permit of the semaphore, bytes.
+     */
+    private static final long PERMIT_SIZE = 1024;
+
+    /**
+     * Semaphore of the budget, one permit per {@link #PERMIT_SIZE} bytes.
+     */
+    private final Semaphore budget;
+
+    /**
+     * Count of permits of the whole budget.
+     */
+    private final int budgetPermits;
+
+    /**
+     * Time to wait for admission of a reload before the previous version is served, milliseconds.
+     */
+    private final long staleTimeout;
+
+    /**
+     * Count of parses in progress.
+     */
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * Count of parses admitted.
+     */
+    private final AtomicLong admitted = new AtomicLong();
+
+    /**
+     * Count of reloads which were not admitted in time, so previous versions were served.
+     */
+    private final AtomicLong staleServed = new AtomicLong();
+
+    /**
+     * Total time of waiting for admission, nanoseconds.
+     */
+    private final AtomicLong waitTime = new AtomicLong();
+
+    /**
+     * Maximum time of waiting for admission, nanoseconds.
+     */
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param budget long maximum total length of files parsed at once, bytes
+     * @param staleTimeout long time to wait for admission of a reload before the previous version is served,
+     *                     milliseconds; 0 to serve the previous version at once if the budget is exhausted.
+     */
+    public ParseGovernor(final long budget, final long staleTimeout) {
+        Preconditions.checkArgument(budget > 0, "Budget should be positive: %s", budget);
+        Preconditions.checkArgument(staleTimeout >= 0, "Stale timeout should not be negative: %s", staleTimeout);
+        this.budgetPermits = Ints.saturatedCast(toPermits(budget));
+        this.budget = new Semaphore(budgetPermits, true);
+        this.staleTimeout = staleTimeout;
+    }
+
+    /**
+     * Get admission to parse the file.
+     *
+     * @param fileLength long length of the file to parse
+     * @param hasPrevious true if the previous version of the resource can be served instead
+     * @return Permit to close when the parse is done; null if the previous version should be served.
+     */
+    @Nullable
+    public Permit admit(final long fileLength, final boolean hasPrevious) {
+        int permits = (int) Math.min(budgetPermits, Math.max(1, toPermits(fileLength)));
+        long started = System.nanoTime();
+        if (hasPrevious) {
+            boolean acquired;
+            try {
+                acquired = budget.tryAcquire(permits, staleTimeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                staleServed.incrementAndGet();
+                recordWait(started);
+                return null;
+            }
+        } else {
+            budget.acquireUninterruptibly(permits);
+        }
+        recordWait(started);
+        admitted.incrementAndGet();
+        active.incrementAndGet();
+        return new Permit(permits);
+    }
+
+    private static long toPermits(final long bytes) {
+        return (bytes + PERMIT_SIZE - 1) / PERMIT_SIZE;
+    }
+
+    private void recordWait(final long started) {
+        long waited = System.nanoTime() - started;
+        waitTime.addAndGet(waited);
+        maxWaitTime.accumulateAndGet(waited, Math::max);
+    }
+
+    /**
+     * Get count of parses in progress.
+     *
+     * @return int count.
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Get estimated count of parses waiting for admission.
+     *
+     * @return int count.
+     */
+    public int getQueuedCount() {
+        return budget.getQueueLength();
+    }
+
+    /**
+     * Get count of parses admitted since the governor is created.
+     *
+     * @return long count.
+     */
+    public long getAdmittedCount() {
+        return admitted.get();
+    }
+
+    /**
+     * Get count of reloads which were not admitted in time, so previous versions were served.
+     *
+     * @return long count.
+     */
+    public long getStaleServedCount() {
+        return staleServed.get();
+    }
+
+    /**
+     * Get available budget.
+     *
+     * @return long total length of files which can be parsed at once now, bytes.
+     */
+    public long getAvailableBudget() {
+        return budget.availablePermits() * PERMIT_SIZE;
+    }
+
+    /**
+     * Get total time of waiting for admission.
+     *
+     * @return long time in milliseconds.
+     */
+    public long getTotalWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(waitTime.get());
+    }
+
+    /**
+     * Get maximum time of waiting for admission.
+     *
+     * @return long time in milliseconds.
+     */
+    public long getMaxWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitTime.get());
+    }
+
+    /**
+     * Make String representation of the object.
+     *
+     * @return String representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "ParseGovernor[active=" + getActiveCount() + ", queued=" + getQueuedCount()
+                + ", admitted=" + getAdmittedCount() + ", staleServed=" + getStaleServedCount()
+                + ", availableBudget=" + getAvailableBudget() + ", maxWait=" + getMaxWaitTime() + "ms]";
+    }
+
+    /**
+     * Admission of a parse; returns its share of the budget when closed.
+     */
+    public final class Permit implements AutoCloseable {
+
+        /**
+         * Count of permits of the semaphore taken.
+         */
+        private final int permits;
+
+        /**
+         * Flag if the permit is closed.
+         */
+        private boolean closed;
+
+        private Permit(final int permits) {
+            this.permits = permits;
+        }
+
+        /**
+         * Return the share of the budget. Repeated invocations have no effect.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            active.decrementAndGet();
+            budget.release(permits);
+        }
+    }
+}
@@ -96,6 +96,16 @@ public interface Resource<T> {
      */
     long getLastUpdateTime();
 
+    /**
+     * Get estimated retained size of the resource: parsed workbooks and values kept by it,
+     * references excluded. Used to weigh resources in caches of the tracker.
+     *
+     * @return long estimated size in bytes; 0 if nothing is loaded or the size is not estimated.
+     */
+    default long getEstimatedRetainedSize() {
+        return 0;
+    }
+
     /**
      * Get status.
      *
@@ -21,11 +21,15 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.commons.io.IOUtils;
+import org.qubership.automation.configuration.dataset.excel.tracker.ResourceUtils;
 
 public abstract class ResourceState<T> implements Resource<T>, Closeable {
 
@@ -74,47 +78,156 @@ public abstract class ResourceState<T> implements Resource<T>, Closeable {
      */
     protected Exception lastException;
 
+    /**
+     * Estimated retained size of the resource, bytes; updated by subclasses when the resource is loaded.
+     */
+    protected volatile long estimatedRetainedSize;
+
+    /**
+     * Estimated retained size the resource is weighed with by {@link ResourceWeigher}.
+     */
+    volatile long weighedSize;
+
+    /**
+     * Watcher of the resource file; null if the file is polled.
+     */
+    protected final ResourceWatcher watcher;
+
+    /**
+     * Path to the resource as it is known by the {@link #watcher}.
+     */
+    private final Path watchedPath;
+
+    /**
+     * Stamp of the resource file at the last refresh.
+     */
+    protected long watchedStamp = ResourceWatcher.NOT_WATCHED;
+
+    /**
+     * Admission control of parses; null if parses are not limited.
+     */
+    protected final ParseGovernor governor;
+
+    /**
+     * Checksums of package parts of the file as of the last parse, see {@link ResourceUtils#getPartChecksums(File)}.
+     */
+    @Nonnull
+    protected Map<String, Long> parts = Collections.emptyMap();
+
     /**
      * Constructor.
      *
      * @param path Path to resource.
      */
     public ResourceState(@Nonnull final Path path) {
+        this(path, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to resource
+     * @param watcher ResourceWatcher object; null to poll the file once per check threshold.
+     */
+    public ResourceState(@Nonnull final Path path, @Nullable final ResourceWatcher watcher) {
+        this(path, watcher, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Path to resource
+     * @param watcher ResourceWatcher object; null to poll the file once per check threshold
+     * @param governor ParseGovernor of parses; null to not limit them.
+     */
+    public ResourceState(@Nonnull final Path path, @Nullable final ResourceWatcher watcher,
+                         @Nullable final ParseGovernor governor) {
+        this.governor = governor;
         this.path = path;
         this.file = path.toFile();
+        this.watchedPath = ResourceWatcher.key(path);
+        this.watcher = watcher != null && watcher.watch(watchedPath) ? watcher : null;
     }
 
     /**
      * Before-collaboration-update handler.
+     * If the resource is watched, the file is checked only after the watcher receives an event for it,
+     * check threshold is not used.
+     * If the file is changed, but checksums of its package parts are the same, it is not parsed again.
+     * If there is a governor and it does not admit the reload in time, the previous version is kept
+     * and the 'SAME' status is returned; the file is checked again on the next invocation.
      *
      * @param checkThreshold long threshold value
      * @return ResourceStatus object.
      */
     protected ResourceStatus beforeCollaborationUpdate(final long checkThreshold) {
         long curTime = System.currentTimeMillis();
-        if ((curTime - lastRefreshed) < checkThreshold) {
+        long stamp = getWatchedStamp();
+        final long origStamp = watchedStamp;
+        if (stamp != ResourceWatcher.NOT_WATCHED) {
+            if (stamp == watchedStamp) {
+                return ResourceStatus.SAME;
+            }
+            watchedStamp = stamp;
+        } else if ((curTime - lastRefreshed) < checkThreshold) {
             return ResourceStatus.SAME;
         }
-        boolean origExists = exists;
+        final boolean origExists = exists;
+        final long origLastModified = lastModified;
+        final boolean origDirectory = directory;
+        final long origLength = length;
         if (!refreshResourceState()) {
             return ResourceStatus.SAME;
         }
-        lastRefreshed = curTime;
         if (!exists) {
+            lastRefreshed = curTime;
             IOUtils.closeQuietly(this);
             return ResourceStatus.DELETED;
         }
+        Map<String, Long> curParts = ResourceUtils.getPartChecksums(file);
+        if (origExists && lastUpdated >= 0 && !curParts.isEmpty() && curParts.equals(parts)) {
+            // the file is rewritten with the same content, there is nothing to parse
+            lastRefreshed = curTime;
+            return ResourceStatus.SAME;
+        }
+        ParseGovernor.Permit permit = governor == null ? null : governor.admit(length, origExists && lastUpdated >= 0);
+        if (governor != null && permit == null) {
+            // the previous version is served, the file is checked again next time
+            exists = origExists;
+            lastModified = origLastModified;
+            directory = origDirectory;
+            length = origLength;
+            watchedStamp = origStamp;
+            return ResourceStatus.SAME;
+        }
+        lastRefreshed = curTime;
         try {
             beforeCollaboration(path, file);
+            parts = curParts;
             lastException = null;
             lastUpdated = curTime;
             return origExists ? ResourceStatus.UPDATED : ResourceStatus.CREATED;
         } catch (Exception e) {
+            // checksums of a failed load must not match, so the file is parsed again even if it is reverted
+            parts = Collections.emptyMap();
             lastException = e;
             return origExists ? ResourceStatus.FAILED_TO_UPDATE : ResourceStatus.FAILED_TO_CREATE;
+        } finally {
+            if (permit != null) {
+                permit.close();
+            }
         }
     }
 
+    /**
+     * Get the current stamp of the resource file.
+     *
+     * @return long stamp or {@link ResourceWatcher#NOT_WATCHED} if the file is polled.
+     */
+    protected long getWatchedStamp() {
+        return watcher == null ? ResourceWatcher.NOT_WATCHED : watcher.getStamp(watchedPath);
+    }
+
     /**
      * Refresh method.
      *
@@ -190,6 +303,16 @@ public abstract class ResourceState<T> implements Resource<T>, Closeable {
         return file;
     }
 
+    /**
+     * Get estimated retained size of the resource.
+     *
+     * @return long estimated size in bytes; 0 if nothing is loaded.
+     */
+    @Override
+    public long getEstimatedRetainedSize() {
+        return estimatedRetainedSize;
+    }
+
     /**
      * Get the last update time.
      *
@@ -209,5 +332,7 @@ public abstract class ResourceState<T> implements Resource<T>, Closeable {
     public void close() throws IOException {
         lastException = null;
         lastUpdated = -1L;
+        estimatedRetainedSize = 0;
+        parts = Collections.emptyMap();
     }
 }
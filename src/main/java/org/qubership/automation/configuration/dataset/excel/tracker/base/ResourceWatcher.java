@@ -0,0 +1,255 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.tracker.base;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <pre>
+ * Tracks changes of files using {@link WatchService} instead of polling the file system.
+ * Directories are registered on demand: for each watched file its parent directory is registered.
+ * Each create/modify/delete event advances the stamp of the file, see {@link #getStamp(Path)};
+ * resources compare stamps and check the file itself only if the stamp is changed.
+ * Events overflow advances stamps of all files.
+ * For directories the watcher maintains sets of files, so directory content is known without listing it.
+ * </pre>
+ */
+public class ResourceWatcher implements Closeable {
+
+    /**
+     * Stamp of files which are not watched (registration failed or watcher is closed).
+     */
+    public static final long NOT_WATCHED = -1L;
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceWatcher.class);
+
+    /**
+     * Watch service.
+     */
+    private final WatchService service;
+
+    /**
+     * Registered directories to their files.
+     */
+    private final Map<Path, Set<Path>> directories = new ConcurrentHashMap<>();
+
+    /**
+     * Stamps of files changed since watching started.
+     */
+    private final Map<Path, Long> stamps = new ConcurrentHashMap<>();
+
+    /**
+     * Counter of events.
+     */
+    private final AtomicLong counter = new AtomicLong();
+
+    /**
+     * Stamp of the last overflow; each file stamp is not less than it.
+     */
+    private volatile long overflowStamp;
+
+    /**
+     * Flag if the watcher is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructor. Starts daemon thread which processes events.
+     *
+     * @throws IOException in case watch service can not be created.
+     */
+    public ResourceWatcher() throws IOException {
+        this.service = FileSystems.getDefault().newWatchService();
+        Thread thread = new Thread(this::processEvents, "dataset-resource-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Normalize path the way it is used as a key by the watcher.
+     *
+     * @param path Path to file
+     * @return absolute normalized Path.
+     */
+    @Nonnull
+    public static Path key(@Nonnull final Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Start watching of the file: registers its parent directory.
+     *
+     * @param file Path to file, see {@link #key(Path)}
+     * @return true if the file is watched; false if it should be polled.
+     */
+    public boolean watch(@Nonnull final Path file) {
+        Path dir = file.getParent();
+        return dir != null && watchDir(dir);
+    }
+
+    /**
+     * Start watching of the directory.
+     *
+     * @param dir Path to directory, see {@link #key(Path)}
+     * @return true if the directory is watched.
+     */
+    public boolean watchDir(@Nonnull final Path dir) {
+        if (closed) {
+            return false;
+        }
+        if (directories.containsKey(dir)) {
+            return true;
+        }
+        synchronized (directories) {
+            if (directories.containsKey(dir)) {
+                return true;
+            }
+            try {
+                dir.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                Set<Path> files = ConcurrentHashMap.newKeySet();
+                // registered before listing, so files created meanwhile are not lost
+                files.addAll(list(dir));
+                directories.put(dir, files);
+                return true;
+            } catch (IOException | ClosedWatchServiceException e) {
+                LOGGER.warn("Can not watch directory [{}], it will be polled", dir, e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Get stamp of the file. Stamp is changed each time an event for the file is received.
+     *
+     * @param file Path to file, see {@link #key(Path)}
+     * @return long stamp or {@link #NOT_WATCHED} if directory of the file is not watched.
+     */
+    public long getStamp(@Nonnull final Path file) {
+        Path dir = file.getParent();
+        if (closed || dir == null || !directories.containsKey(dir)) {
+            return NOT_WATCHED;
+        }
+        Long stamp = stamps.get(file);
+        return stamp == null ? overflowStamp : Math.max(stamp, overflowStamp);
+    }
+
+    /**
+     * Get version of the watched files: it is changed each time any event is received.
+     *
+     * @return long version.
+     */
+    public long getVersion() {
+        return counter.get();
+    }
+
+    /**
+     * Get files of the watched directory.
+     *
+     * @param dir Path to directory, see {@link #key(Path)}
+     * @return unmodifiable Set of Paths or null if the directory is not watched.
+     */
+    @Nullable
+    public Set<Path> getFiles(@Nonnull final Path dir) {
+        Set<Path> files = closed ? null : directories.get(dir);
+        return files == null ? null : Collections.unmodifiableSet(files);
+    }
+
+    private void processEvents() {
+        while (!closed) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path dir = (Path) key.watchable();
+            Set<Path> files = directories.get(dir);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    overflowStamp = counter.incrementAndGet();
+                    if (files != null) {
+                        files.clear();
+                        files.addAll(list(dir));
+                    }
+                    continue;
+                }
+                Path file = dir.resolve((Path) event.context());
+                stamps.put(file, counter.incrementAndGet());
+                if (files == null) {
+                    continue;
+                }
+                if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                    files.remove(file);
+                } else {
+                    files.add(file);
+                }
+            }
+            if (!key.reset()) {
+                // directory is not accessible anymore, its files are polled from now on
+                directories.remove(dir);
+            }
+        }
+    }
+
+    @Nonnull
+    private static Set<Path> list(@Nonnull final Path dir) {
+        Set<Path> result = ConcurrentHashMap.newKeySet();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(result::add);
+        } catch (IOException e) {
+            LOGGER.warn("Can not list directory [{}]", dir, e);
+        }
+        return result;
+    }
+
+    /**
+     * Stop watching. Files are polled from now on.
+     *
+     * @throws IOException in case IO errors occurred.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        service.close();
+    }
+}
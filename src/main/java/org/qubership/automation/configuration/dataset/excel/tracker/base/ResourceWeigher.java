@@ -0,0 +1,102 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.tracker.base;
+
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.primitives.Ints;
+
+/**
+ * <pre>
+ * Weigher of resources by their estimated retained size, see {@link Resource#getEstimatedRetainedSize()}.
+ * Cache weighs an entry when it is put only, while a resource is loaded after it is put into the cache
+ * and is reloaded later. So the owner of the cache invokes {@link #reweigh(ConcurrentMap, Path, ResourceState)}
+ * after loading: the entry is replaced by itself, so the cache weighs it again and evicts
+ * the least recently used entries if the maximum weight is exceeded.
+ * </pre>
+ */
+public final class ResourceWeigher implements Weigher<Path, ResourceState<?>> {
+
+    /**
+     * Weigher instance.
+     */
+    public static final ResourceWeigher INSTANCE = new ResourceWeigher();
+
+    /**
+     * Minimal weight of an entry, bytes: weight of a resource which is not loaded yet.
+     */
+    private static final int MIN_WEIGHT = 1024;
+
+    private ResourceWeigher() {
+    }
+
+    /**
+     * Create builder of a cache of resources which are expired after 5 minutes of inactivity.
+     * If the maximum weight is set, resources are weighed and held strongly until they are evicted
+     * in the least recently used order;
+     * otherwise they are held weakly, so they are released as soon as they are not used.
+     *
+     * @param maximumWeight long maximum total estimated retained size of resources, bytes; 0 for weak values
+     * @return CacheBuilder object.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <R extends ResourceState<?>> CacheBuilder<Path, R> newCacheBuilder(final long maximumWeight) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().expireAfterAccess(5, TimeUnit.MINUTES);
+        if (maximumWeight <= 0) {
+            return (CacheBuilder<Path, R>) (CacheBuilder<?, ?>) builder.weakValues();
+        }
+        // single segment: the limit is applied to all entries instead of being split between segments
+        return builder.concurrencyLevel(1).maximumWeight(maximumWeight).<Path, R>weigher(INSTANCE);
+    }
+
+    /**
+     * Weigh the resource again if its estimated retained size is changed since it was weighed.
+     * Should be invoked for caches with the maximum weight only.
+     *
+     * @param cache ConcurrentMap view of the cache
+     * @param key Path key of the resource
+     * @param resource ResourceState cached.
+     */
+    public static <R extends ResourceState<?>> void reweigh(@Nonnull final ConcurrentMap<Path, R> cache,
+                                                            @Nonnull final Path key, @Nonnull final R resource) {
+        if (resource.getEstimatedRetainedSize() != resource.weighedSize) {
+            cache.replace(key, resource, resource);
+        }
+    }
+
+    /**
+     * Weigh the resource.
+     *
+     * @param key Path key of the resource
+     * @param resource ResourceState to weigh
+     * @return int weight.
+     */
+    @Override
+    public int weigh(@Nonnull final Path key, @Nonnull final ResourceState<?> resource) {
+        long size = resource.getEstimatedRetainedSize();
+        resource.weighedSize = size;
+        return Math.max(MIN_WEIGHT, Ints.saturatedCast(size));
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.tracker.base;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import org.qubership.automation.configuration.dataset.excel.impl.snapshot.DSListSnapshot;
+import org.qubership.automation.configuration.dataset.excel.impl.snapshot.DSListsSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
+
+/**
+ * <pre>
+ * Persistent cache of {@link DSListsSnapshot}s: one binary file per dataset file in the cache directory.
+ * Cache file name is a hash of the configuration fingerprint and the dataset file path;
+ * the entry is valid while the length and the last modification time of the dataset file are the same.
+ * Entries are read through memory mapping; corrupted entries are treated as missing.
+ *
+ * Format: header (magic, version, fingerprint, source path, length, last modified),
+ * table of distinct strings, then DSLists referring strings by their indexes in the table.
+ * </pre>
+ */
+public class SnapshotFileCache {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotFileCache.class);
+
+    /**
+     * Magic number of the cache file.
+     */
+    private static final int MAGIC = 0x44534c53;
+
+    /**
+     * Version of the format.
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * Extension of cache files.
+     */
+    private static final String EXTENSION = ".snapshot";
+
+    /**
+     * Index of null string.
+     */
+    private static final int NULL = -1;
+
+    /**
+     * Cache directory.
+     */
+    private final Path dir;
+
+    /**
+     * Fingerprint of the configuration snapshots are built with.
+     */
+    private final String fingerprint;
+
+    /**
+     * Constructor.
+     *
+     * @param dir Path to cache directory; created if it does not exist.
+     */
+    public SnapshotFileCache(@Nonnull final Path dir) {
+        this(dir, "");
+    }
+
+    /**
+     * Constructor.
+     * Snapshots of the same file built with different configurations have different entries,
+     * so several configurations can share the directory.
+     *
+     * @param dir Path to cache directory; created if it does not exist
+     * @param fingerprint String fingerprint of the configuration snapshots are built with.
+     */
+    public SnapshotFileCache(@Nonnull final Path dir, @Nonnull final String fingerprint) {
+        this.dir = dir;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Read snapshot of the dataset file.
+     *
+     * @param source Path to dataset file
+     * @param length current length of the dataset file
+     * @param lastModified current last modification time of the dataset file
+     * @return Optional of DSListsSnapshot; empty if there is no valid cache entry.
+     */
+    @Nonnull
+    public Optional<DSListsSnapshot> read(@Nonnull final Path source, final long length, final long lastModified) {
+        Path entry = entryPath(source);
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(entry, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                    || !fingerprint.equals(readString(buffer))
+                    || !source.toAbsolutePath().toString().equals(readString(buffer))
+                    || buffer.getLong() != length || buffer.getLong() != lastModified) {
+                return Optional.empty();
+            }
+            String[] strings = new String[readCount(buffer, Integer.BYTES)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(buffer);
+            }
+            // name, formulas flag, counts of parameters and datasets
+            int listsCount = readCount(buffer, Integer.BYTES * 3L + 1);
+            List<DSListSnapshot> lists = Lists.newArrayListWithCapacity(listsCount);
+            for (int i = 0; i < listsCount; i++) {
+                lists.add(readList(buffer, strings));
+            }
+            return Optional.of(new DSListsSnapshot(source.toString(), lists));
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                 | NegativeArraySizeException | OutOfMemoryError e) {
+            LOGGER.warn("Can not read snapshot [{}] of [{}]", entry, source, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write snapshot of the dataset file. Errors are logged only.
+     *
+     * @param source Path to dataset file
+     * @param length length of the dataset file the snapshot is taken from
+     * @param lastModified last modification time of the dataset file the snapshot is taken from
+     * @param snapshot DSListsSnapshot to write.
+     */
+    public void write(@Nonnull final Path source, final long length, final long lastModified,
+                      @Nonnull final DSListsSnapshot snapshot) {
+        Path entry = entryPath(source);
+        Path tmp = null;
+        try {
+            Files.createDirectories(dir);
+            tmp = Files.createTempFile(dir, entry.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                writeString(out, fingerprint);
+                writeString(out, source.toAbsolutePath().toString());
+                out.writeLong(length);
+                out.writeLong(lastModified);
+                Map<String, Integer> strings = collectStrings(snapshot);
+                out.writeInt(strings.size());
+                for (String string : strings.keySet()) {
+                    writeString(out, string);
+                }
+                out.writeInt(snapshot.getLists().size());
+                for (DSListSnapshot list : snapshot.getLists()) {
+                    writeList(out, list, strings);
+                }
+            }
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Can not write snapshot [{}] of [{}]", entry, source, e);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // nothing to do
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove snapshot of the dataset file. Errors are logged only.
+     *
+     * @param source Path to dataset file.
+     */
+    public void remove(@Nonnull final Path source) {
+        Path entry = entryPath(source);
+        try {
+            Files.deleteIfExists(entry);
+        } catch (IOException e) {
+            LOGGER.warn("Can not remove snapshot [{}] of [{}]", entry, source, e);
+        }
+    }
+
+    @Nonnull
+    private Path entryPath(@Nonnull final Path source) {
+        String key = Hashing.sha256().newHasher()
+                .putString(fingerprint, StandardCharsets.UTF_8)
+                .putByte((byte) 0)
+                .putString(source.toAbsolutePath().normalize().toString(), StandardCharsets.UTF_8)
+                .hash()
+                .toString();
+        return dir.resolve(key + EXTENSION);
+    }
+
+    @Nonnull
+    private static Map<String, Integer> collectStrings(@Nonnull final DSListsSnapshot snapshot) {
+        Map<String, Integer> result = Maps.newLinkedHashMap();
+        for (DSListSnapshot list : snapshot.getLists()) {
+            result.putIfAbsent(list.getName(), result.size());
+            for (int paramIdx = 0; paramIdx < list.getParametersCount(); paramIdx++) {
+                result.putIfAbsent(list.getParameter(paramIdx), result.size());
+            }
+            for (int dsIdx = 0; dsIdx < list.getDataSetsCount(); dsIdx++) {
+                result.putIfAbsent(list.getDataSet(dsIdx), result.size());
+                for (int paramIdx = 0; paramIdx < list.getParametersCount(); paramIdx++) {
+                    String value = list.getValue(dsIdx, paramIdx);
+                    if (value != null) {
+                        result.putIfAbsent(value, result.size());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void writeList(@Nonnull final DataOutputStream out, @Nonnull final DSListSnapshot list,
+                                  @Nonnull final Map<String, Integer> strings) throws IOException {
+        out.writeInt(strings.get(list.getName()));
+        out.writeBoolean(list.hasFormulas());
+        out.writeInt(list.getParametersCount());
+        for (int paramIdx = 0; paramIdx < list.getParametersCount(); paramIdx++) {
+            out.writeInt(strings.get(list.getParameter(paramIdx)));
+        }
+        out.writeInt(list.getDataSetsCount());
+        for (int dsIdx = 0; dsIdx < list.getDataSetsCount(); dsIdx++) {
+            out.writeInt(strings.get(list.getDataSet(dsIdx)));
+            for (int paramIdx = 0; paramIdx < list.getParametersCount(); paramIdx++) {
+                String value = list.getValue(dsIdx, paramIdx);
+                out.writeInt(value == null ? NULL : strings.get(value));
+            }
+        }
+    }
+
+    @Nonnull
+    private static DSListSnapshot readList(@Nonnull final MappedByteBuffer buffer, @Nonnull final String[] strings) {
+        String name = strings[buffer.getInt()];
+        boolean hasFormulas = buffer.get() != 0;
+        String[] params = new String[readCount(buffer, Integer.BYTES)];
+        for (int paramIdx = 0; paramIdx < params.length; paramIdx++) {
+            params[paramIdx] = strings[buffer.getInt()];
+        }
+        int dsCount = readCount(buffer, Integer.BYTES * (1L + params.length));
+        String[] dataSets = new String[dsCount];
+        String[][] values = new String[dsCount][];
+        for (int dsIdx = 0; dsIdx < dsCount; dsIdx++) {
+            dataSets[dsIdx] = strings[buffer.getInt()];
+            String[] column = new String[params.length];
+            for (int paramIdx = 0; paramIdx < params.length; paramIdx++) {
+                int stringIdx = buffer.getInt();
+                column[paramIdx] = stringIdx == NULL ? null : strings[stringIdx];
+            }
+            values[dsIdx] = column;
+        }
+        return new DSListSnapshot(name, params, dataSets, values, hasFormulas);
+    }
+
+    private static void writeString(@Nonnull final DataOutputStream out, @Nonnull final String value)
+            throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Nonnull
+    private static String readString(@Nonnull final MappedByteBuffer buffer) {
+        byte[] bytes = new byte[readCount(buffer, 1)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read count of items and check that the rest of the buffer can contain them,
+     * so corrupted counts do not cause huge allocations.
+     *
+     * @param buffer MappedByteBuffer to read from
+     * @param itemSize long minimum size of an item in bytes
+     * @return int count of items.
+     * @throws BufferUnderflowException if the count is negative or the buffer is too short.
+     */
+    private static int readCount(@Nonnull final MappedByteBuffer buffer, final long itemSize) {
+        int count = buffer.getInt();
+        if (count < 0 || count * itemSize > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    /**
+     * Make String representation of the object.
+     *
+     * @return String representation of the object.
+     */
+    @Override
+    public String toString() {
+        return "SnapshotFileCache[" + dir + "]";
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.tracker.base;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Settings of {@link AbstractTracker}.
+ */
+public class TrackerSettings {
+
+    /**
+     * Default check threshold, milliseconds.
+     */
+    public static final long DEFAULT_CHECK_THRESHOLD = 1000L;
+
+    /**
+     * Check Threshold value.
+     */
+    private long checkThreshold = DEFAULT_CHECK_THRESHOLD;
+
+    /**
+     * Flag ignore missing references or not.
+     */
+    private boolean ignoreMissingRefs;
+
+    /**
+     * Directory of the persistent snapshots cache; null if snapshots are not persisted.
+     */
+    private Path snapshotCacheDir;
+
+    /**
+     * Fingerprint of the build configuration of persisted snapshots; null if only the tracker class is used.
+     */
+    private String snapshotFingerprint;
+
+    /**
+     * Flag if files are watched for changes instead of polling.
+     */
+    private boolean watchFiles;
+
+    /**
+     * Executor of background reloads; null if datasets are reloaded by readers.
+     */
+    private Executor refreshExecutor;
+
+    /**
+     * Maximum estimated retained size of cached resources, bytes; 0 if resources are held weakly.
+     */
+    private long cacheMaximumWeight;
+
+    /**
+     * Admission control of workbook parses; null if parses are not limited.
+     */
+    private ParseGovernor parseGovernor;
+
+    /**
+     * Create settings with default values: {@link #DEFAULT_CHECK_THRESHOLD}, missing references are not ignored,
+     * snapshots are not persisted, files are polled, datasets are reloaded by readers,
+     * cached resources are held weakly, parses are not limited.
+     *
+     * @return a new TrackerSettings object.
+     */
+    @Nonnull
+    public static TrackerSettings create() {
+        return new TrackerSettings();
+    }
+
+    /**
+     * Get check threshold.
+     *
+     * @return long check threshold in milliseconds.
+     */
+    public long getCheckThreshold() {
+        return checkThreshold;
+    }
+
+    /**
+     * Set check threshold: files are not checked for modifications more often than once per threshold.
+     *
+     * @param checkThreshold long check threshold in milliseconds
+     * @return this TrackerSettings object.
+     */
+    @Nonnull
+    public TrackerSettings checkThreshold(final long checkThreshold) {
+        this.checkThreshold = checkThreshold;
+        return this;
+    }
+
+    /**
+     * Check if missing references are ignored.
+     *
+     * @return true/false.
+     */
+    public boolean isIgnoreMissingRefs() {
+        return ignoreMissingRefs;
+    }
+
+    /**
+     * Set if missing references are ignored.
+     *
+     * @param ignoreMissingRefs flag ignore missing references or not
+     * @return this TrackerSettings object.
+     */
+    @Nonnull
+    public TrackerSettings ignoreMissingRefs(final boolean ignoreMissingRefs) {
+        this.ignoreMissingRefs = ignoreMissingRefs;
+        return this;
+    }
+
+    /**
+     * Get directory of the persistent snapshots cache.
+     *
+     * @return Path to directory or null if snapshots are not persisted.
+     */
+    @Nullable
+    public Path getSnapshotCacheDir() {
+        return snapshotCacheDir;
+    }
+
+    /**
+     * Set directory of the persistent snapshots cache, see {@link AbstractTracker#getSnapshot(Path)}.
+     *
+     * @param snapshotCacheDir Path to directory; null to not persist snapshots
+     * @return this TrackerSettings object.
+     */
+    @Nonnull
+    public TrackerSettings snapshotCacheDir(@Nullable final Path snapshotCacheDir) {
+        this.snapshotCacheDir = snapshotCacheDir;
+        return this;
+    }
+
+    /**
+     * Get fingerprint of the build configuration of persisted snapshots.
+     *
+     * @return String fingerprint or null if only the tracker class is used.
+     */
+    @Nullable
+    public String getSnapshotFingerprint() {
+        return snapshotFingerprint;
+    }
+
+    /**
+     * Set fingerprint of the build configuration of persisted snapshots.
+     * Persisted snapshots are keyed by the tracker class and this fingerprint besides the dataset file,
+     * so the fingerprint should be changed whenever {@link AbstractTracker#build} starts to build datasets
+     * differently (other sheets, columns, converters or formulas strategy); otherwise stale snapshots are served.
+     *
+     * @param snapshotFingerprint String fingerprint, e.g. version of the configuration; null to use the class only
+     * @return this TrackerSettings object.
+     */
+    @Nonnull
+    public TrackerSettings snapshotFingerprint(@Nullable final String snapshotFingerprint) {
+        this.snapshotFingerprint = snapshotFingerprint;
+        return this;
+    }
+
+    /**
+     * Check if files are watched for changes instead of polling.
+     *
+     * @return true/false.
+     */
+    public boolean isWatchFiles() {
+        return watchFiles;
+    }
+
+    /**
+     * Set if files are watched for changes by {@link ResourceWatcher} instead of polling.
+     * Watched files are checked only after change events, so check threshold is not applied to them.
+     * Files in directories which can not be watched are polled anyway.
+     *
+     * @param watchFiles flag watch files or not
+     * @return this TrackerSettings object.
+     */
+    @Nonnull
+    public TrackerSettings watchFiles(final boolean watchFiles) {
+        this.watchFiles = watchFiles;
+        return this;
+    }
+
+    /**
+     * Get executor of background reloads.
+     *
+     * @return Executor or null if datasets are reloaded by readers.
+     */
+    @Nullable
+    public Executor getRefreshExecutor() {
+        return refreshExecutor;
+    }
+
+    /**
+     * Set executor of background reloads (refresh-ahead mode).
+     * Changed datasets are reloaded by the executor, readers get the previous version until reload is done.
+     *
+     * @param refreshExecutor Executor; null to reload datasets by readers
+     * @return this TrackerSettings object.
+     */
+    @Nonnull
+    public TrackerSettings refreshExecutor(@Nullable final Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+        return this;
+    }
+
+    /**
+     * Get maximum estimated retained size of cached resources.
+     *
+     * @return long size in bytes; 0 if resources are held weakly.
+     */
+    public long getCacheMaximumWeight() {
+        return cacheMaximumWeight;
+    }
+
+    /**
+     * Set maximum estimated retained size of cached resources, see {@link Resource#getEstimatedRetainedSize()}.
+     * The limit is shared by all caches of the tracker: a half of it is given to datasets,
+     * a quarter to referenced workbooks and a quarter to snapshots of datasets.
+     * If it is set, resources are held strongly until the limit is exceeded,
+     * then the least recently used ones are evicted; so they are not reparsed because of GC pressure.
+     * Otherwise resources are held weakly and are released as soon as they are not used.
+     *
+     * @param cacheMaximumWeight long size in bytes; 0 to hold resources weakly
+     * @return this TrackerSettings object.
+     */
+    @Nonnull
+    public TrackerSettings cacheMaximumWeight(final long cacheMaximumWeight) {
+        this.cacheMaximumWeight = cacheMaximumWeight;
+        return this;
+    }
+
+    /**
+     * Get admission control of workbook parses.
+     *
+     * @return ParseGovernor or null if parses are not limited.
+     */
+    @Nullable
+    public ParseGovernor getParseGovernor() {
+        return parseGovernor;
+    }
+
+    /**
+     * Set admission control of workbook parses: datasets and referenced workbooks are parsed
+     * within the budget of the governor, so many files changed at once do not exhaust the heap.
+     * The same governor can be set to several trackers to share the budget.
+     *
+     * @param parseGovernor ParseGovernor; null to not limit parses
+     * @return this TrackerSettings object.
+     */
+    @Nonnull
+    public TrackerSettings parseGovernor(@Nullable final ParseGovernor parseGovernor) {
+        this.parseGovernor = parseGovernor;
+        return this;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.tracker.base;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Progress listener of {@link AbstractTracker#warmUp(int, WarmUpListener)}.
+ * Invoked by worker threads of the warm-up, so implementations should be thread-safe.
+ */
+@FunctionalInterface
+public interface WarmUpListener {
+
+    /**
+     * Handle loaded dataset. Failed datasets are reported too, see {@link Resource#getStatus()}.
+     *
+     * @param resource Resource of the dataset loaded
+     * @param done int count of datasets loaded so far, this one included
+     * @param total int count of datasets to load.
+     */
+    void onLoaded(@Nonnull Resource<?> resource, int done, int total);
+}
@@ -0,0 +1,133 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+import org.qubership.automation.configuration.dataset.excel.builder.DataSetBuilder;
+import org.qubership.automation.configuration.dataset.excel.builder.FinishBuilder;
+import org.qubership.automation.configuration.dataset.excel.core.DS;
+import org.qubership.automation.configuration.dataset.excel.core.ReevaluateFormulas;
+import org.qubership.automation.configuration.dataset.excel.core.VarsEntryModificator;
+
+import com.google.common.collect.ImmutableMap;
+
+public class EvaluationStrategiesTest {
+
+    private static final VarsEntryModificator<String> P1_TO_5 = (entity, param, convertedParam, var) -> {
+        if ("E.p1".equals(convertedParam)) {
+            var.setCellValue(5.0);
+        }
+    };
+
+    private static final VarsEntryModificator<String> P2_FORMULA = (entity, param, convertedParam, var) -> {
+        if ("E.p2".equals(convertedParam)) {
+            var.setCellFormula("C2*20");
+        }
+    };
+
+    private Workbook wb;
+
+    /*
+     * Sheet with parameters p1 = 1, p2 = p1 * 10, p3 = p2 + 1; results of formulas are cached as in a saved file.
+     */
+    private DS<String, Map<String, String>> dataSet(final ReevaluateFormulas strategy, final boolean overlay) {
+        wb = new XSSFWorkbook();
+        Sheet sheet = wb.createSheet("S");
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("Entity");
+        header.createCell(1).setCellValue("Parameter");
+        header.createCell(2).setCellValue("DS_0");
+        Row p1 = sheet.createRow(1);
+        p1.createCell(0).setCellValue("E");
+        p1.createCell(1).setCellValue("p1");
+        p1.createCell(2).setCellValue(1);
+        Row p2 = sheet.createRow(2);
+        p2.createCell(1).setCellValue("p2");
+        p2.createCell(2).setCellFormula("C2*10");
+        Row p3 = sheet.createRow(3);
+        p3.createCell(1).setCellValue("p3");
+        p3.createCell(2).setCellFormula("C3+1");
+        wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
+        FinishBuilder<String, List<String>, Pair<String, String>, Map<String, String>> builder =
+                DataSetBuilder.create(wb).forAllSheets().forAllDataSets().listOfStringsParams()
+                        .mapVars((entity, param, convertedParam, var) ->
+                                Pair.of(convertedParam, var.getStringValue()), strategy);
+        return (overlay ? builder.overlayEvaluation() : builder).build()
+                .iterator().next().getDataSets().iterator().next();
+    }
+
+    private static Map<String, String> vars(final String p1, final String p2, final String p3) {
+        return ImmutableMap.of("E.p1", p1, "E.p2", p2, "E.p3", p3);
+    }
+
+    private void checkModifications(final ReevaluateFormulas strategy, final boolean overlay) {
+        DS<String, Map<String, String>> ds = dataSet(strategy, overlay);
+        assertEquals(vars("1", "10", "11"), ds.getVariables());
+        assertEquals(vars("5", "50", "51"), ds.getVariables(P1_TO_5));
+        assertEquals(vars("1", "20", "21"), ds.getVariables(P2_FORMULA));
+        assertEquals(Arrays.asList(vars("5", "50", "51"), vars("1", "20", "21")),
+                ds.getVariablesBatch(Arrays.asList(P1_TO_5, P2_FORMULA)));
+        assertEquals(vars("1", "10", "11"), ds.getVariables());
+        assertEquals("C3+1", wb.getSheet("S").getRow(3).getCell(2).getCellFormula());
+        assertEquals(1, wb.getSheet("S").getRow(1).getCell(2).getNumericCellValue(), 0);
+    }
+
+    @Test
+    public void modificationsAreAppliedAndReverted() {
+        checkModifications(ReevaluateFormulas.IN_CONVERTER, false);
+        checkModifications(ReevaluateFormulas.ON_CELL_CHANGE, false);
+    }
+
+    @Test
+    public void modificationsAreOverlaid() {
+        checkModifications(ReevaluateFormulas.IN_CONVERTER, true);
+        checkModifications(ReevaluateFormulas.ON_CELL_CHANGE, true);
+    }
+
+    @Test
+    public void modificationsOfFormulasFallBackFromOverlay() {
+        DS<String, Map<String, String>> ds = dataSet(ReevaluateFormulas.ON_CELL_CHANGE, true);
+        assertEquals(vars("1", "20", "21"), ds.getVariables(P2_FORMULA));
+        assertEquals("C2*10", wb.getSheet("S").getRow(2).getCell(2).getCellFormula());
+        assertEquals(vars("5", "50", "51"), ds.getVariables(P1_TO_5));
+    }
+
+    @Test
+    public void cachedResultsAreUsedUntilModification() {
+        checkModifications(ReevaluateFormulas.CACHED, false);
+        checkModifications(ReevaluateFormulas.CACHED, true);
+
+        DS<String, Map<String, String>> ds = dataSet(ReevaluateFormulas.CACHED, false);
+        // cached results become stale on purpose
+        wb.getSheet("S").getRow(1).getCell(2).setCellValue(2);
+        assertEquals(vars("2", "10", "11"), ds.getVariables());
+        assertEquals(vars("5", "50", "51"), ds.getVariables(P1_TO_5));
+        assertEquals(vars("2", "10", "11"), ds.getVariables());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.morphcells;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PropertyDescriptorTest {
+
+    private Workbook wb;
+
+    private Cell dateCell;
+
+    @Before
+    public void createDateCell() {
+        wb = new HSSFWorkbook();
+        CellStyle dateStyle = wb.createCellStyle();
+        dateStyle.setDataFormat(wb.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+        dateCell = wb.createSheet().createRow(0).createCell(0);
+        dateCell.setCellValue(0);
+        dateCell.setCellStyle(dateStyle);
+    }
+
+    @After
+    public void closeWorkbook() throws IOException {
+        wb.close();
+    }
+
+    private void assertDate(final LocalDateTime expected, final String text) {
+        assertEquals(text, DateUtil.getExcelDate(expected, false),
+                PropertyDescriptor.NUMERIC_WIN.get().fromString(text, dateCell), 0);
+    }
+
+    @Test
+    public void datesAreParsed() {
+        assertDate(LocalDateTime.of(2020, 1, 5, 3, 4, 5), "2020-01-05 03:04:05");
+        assertDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59), "2020-12-31 23:59:59");
+    }
+
+    @Test
+    public void datesAreParsedLeniently() {
+        assertDate(LocalDateTime.of(2020, 1, 5, 3, 4, 5), "2020-1-5 3:4:5");
+        assertDate(LocalDateTime.of(2021, 1, 5, 3, 4, 5), "2020-13-05 03:04:05");
+        assertDate(LocalDateTime.of(2020, 2, 1, 0, 0, 0), "2020-01-31 24:00:00");
+    }
+
+    @Test
+    public void restOfDateTextIsIgnored() {
+        assertDate(LocalDateTime.of(2020, 1, 5, 3, 4, 5), "2020-01-05 03:04:05.123");
+        assertDate(LocalDateTime.of(2020, 1, 5, 3, 4, 5), "2020-01-05 03:04:05 +0300");
+        assertDate(LocalDateTime.of(2020, 1, 5, 3, 4, 5), "2020-01-05 03:04:05Z");
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void incompleteDateIsRejected() {
+        PropertyDescriptor.NUMERIC_WIN.get().fromString("2020-01-05", dateCell);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void otherDateFormatIsRejected() {
+        PropertyDescriptor.NUMERIC_WIN.get().fromString("05.01.2020 03:04:05", dateCell);
+    }
+
+    @Test
+    public void numbersAreParsedForOtherCells() {
+        Cell cell = wb.getSheetAt(0).getRow(0).createCell(1);
+        cell.setCellValue(0);
+        assertEquals(1.5, PropertyDescriptor.NUMERIC_WIN.get().fromString("1.5", cell), 0);
+    }
+}
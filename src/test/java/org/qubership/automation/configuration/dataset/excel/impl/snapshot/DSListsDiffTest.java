@@ -0,0 +1,96 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.snapshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+public class DSListsDiffTest {
+
+    private static DSListSnapshot list(final String name, final String[] parameters, final String[] dataSets,
+                                       final String[]... values) {
+        return new DSListSnapshot(name, parameters, dataSets, values, false);
+    }
+
+    private static DSListSnapshot unchanged() {
+        return list("Unchanged", new String[]{"E.p"}, new String[]{"DS_0"}, new String[]{"1"});
+    }
+
+    private static DSListsSnapshot before() {
+        return new DSListsSnapshot("file", Arrays.asList(
+                list("Changed", new String[]{"E.a", "E.b", "E.c"}, new String[]{"DS_0", "DS_1"},
+                        new String[]{"1", "2", "3"}, new String[]{"4", "5", "6"}),
+                list("Removed", new String[]{"E.p"}, new String[]{"DS_0"}, new String[]{"1"}),
+                unchanged()));
+    }
+
+    private static DSListsSnapshot after() {
+        return new DSListsSnapshot("file", Arrays.asList(
+                list("Changed", new String[]{"E.a", "E.b", "E.d"}, new String[]{"DS_0", "DS_2"},
+                        new String[]{"1", "20", "7"}, new String[]{"8", "9", null}),
+                unchanged(),
+                list("Added", new String[]{"E.p"}, new String[]{"DS_0"}, new String[]{"1"})));
+    }
+
+    @Test
+    public void differencesOfListsAreFound() {
+        DSListsDiff diff = DSListsDiff.of("file", before(), after());
+        assertEquals("file", diff.getSource());
+        assertEquals(Collections.singletonList("Added"), diff.getAddedLists());
+        assertEquals(Collections.singletonList("Removed"), diff.getRemovedLists());
+        assertEquals(1, diff.getChangedLists().size());
+
+        DSListDiff changed = diff.getChangedLists().get(0);
+        assertEquals("Changed", changed.getName());
+        assertEquals(Collections.singletonList("DS_2"), changed.getAddedDataSets());
+        assertEquals(Collections.singletonList("DS_1"), changed.getRemovedDataSets());
+        assertEquals(Collections.singletonList("E.d"), changed.getAddedParameters());
+        assertEquals(Collections.singletonList("E.c"), changed.getRemovedParameters());
+        assertEquals(ImmutableMap.of("DS_0", ImmutableSet.of("E.b")), changed.getChangedValues());
+        assertEquals(ImmutableSet.of("E.b"), changed.getChangedParameters("DS_0"));
+        assertNull(changed.getChangedParameters("DS_2"));
+    }
+
+    @Test
+    public void equalSnapshotsHaveNoDifferences() {
+        assertTrue(DSListsDiff.of("file", before(), before()).isEmpty());
+        DSListsSnapshot snapshot = after();
+        assertTrue(DSListsDiff.of("file", snapshot, snapshot).isEmpty());
+    }
+
+    @Test
+    public void missingSnapshotsReportAllLists() {
+        DSListsDiff created = DSListsDiff.of("file", null, after());
+        assertEquals(Arrays.asList("Changed", "Unchanged", "Added"), created.getAddedLists());
+        assertTrue(created.getRemovedLists().isEmpty());
+        assertTrue(created.getChangedLists().isEmpty());
+
+        DSListsDiff deleted = DSListsDiff.of("file", before(), null);
+        assertEquals(Arrays.asList("Changed", "Removed", "Unchanged"), deleted.getRemovedLists());
+        assertTrue(deleted.getAddedLists().isEmpty());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.impl.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.qubership.automation.configuration.dataset.excel.builder.DataSetBuilder;
+import org.qubership.automation.configuration.dataset.excel.core.DS;
+import org.qubership.automation.configuration.dataset.excel.core.DSList;
+import org.qubership.automation.configuration.dataset.excel.core.DSLists;
+
+public class StreamingWorkbookTest {
+
+    private static File file;
+
+    @BeforeClass
+    public static void writeWorkbook() throws IOException {
+        file = File.createTempFile("streaming", ".xlsx");
+        try (Workbook wb = new XSSFWorkbook(); OutputStream out = new FileOutputStream(file)) {
+            CellStyle dateStyle = wb.createCellStyle();
+            dateStyle.setDataFormat(wb.getCreationHelper().createDataFormat().getFormat("dd.MM.yyyy HH:mm"));
+            for (String name : new String[]{"First", "Second"}) {
+                Sheet sheet = wb.createSheet(name);
+                Row header = sheet.createRow(0);
+                header.createCell(0).setCellValue("Entity");
+                header.createCell(1).setCellValue("Parameter");
+                header.createCell(2).setCellValue("DS_0");
+                header.createCell(3).setCellValue("DS_1");
+                Row text = sheet.createRow(1);
+                text.createCell(0).setCellValue("Account");
+                text.createCell(1).setCellValue("name");
+                text.createCell(2).setCellValue(name);
+                text.createCell(3).setCellValue("shared");
+                Row number = sheet.createRow(2);
+                number.createCell(1).setCellValue("amount");
+                number.createCell(2).setCellValue(1.5);
+                number.createCell(3).setCellValue(42);
+                Row flag = sheet.createRow(3);
+                flag.createCell(1).setCellValue("active");
+                flag.createCell(2).setCellValue(true);
+                Row formula = sheet.createRow(4);
+                formula.createCell(0).setCellValue("Order");
+                formula.createCell(1).setCellValue("total");
+                formula.createCell(2).setCellFormula("C3*2");
+                formula.createCell(3).setCellFormula("D2&\"-\"&D3");
+                Row date = sheet.createRow(5);
+                date.createCell(1).setCellValue("created");
+                date.createCell(2).setCellValue(43831.5);
+                date.getCell(2).setCellStyle(dateStyle);
+                date.createCell(3).setCellFormula("D3/4");
+                // row without parameter name is skipped, parameter without values has no variables
+                sheet.createRow(6).createCell(2).setCellValue("orphan");
+                sheet.createRow(7).createCell(1).setCellValue("empty");
+            }
+            wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            wb.write(out);
+        }
+    }
+
+    @AfterClass
+    public static void deleteWorkbook() {
+        file.delete();
+    }
+
+    private static Map<String, Object> read(final DSLists<String, List<String>, Map<String, String>> lists) {
+        Map<String, Object> result = new TreeMap<>();
+        for (DSList<String, List<String>, Map<String, String>> list : lists) {
+            result.put(list.getName() + " parameters", list.getParameters());
+            for (DS<String, Map<String, String>> ds : list.getDataSets()) {
+                result.put(list.getName() + " " + ds.getName(), new TreeMap<>(ds.getVariables()));
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void streamingReadsTheSameAsUserModel() throws IOException {
+        Map<String, Object> expected;
+        try (Workbook wb = WorkbookFactory.create(file, null, true)) {
+            expected = read(DataSetBuilder.create(wb).forAllSheets().forAllDataSets().listOfStringsParams()
+                    .paramToStringMap(false).build());
+        }
+        Map<String, Object> actual = read(DataSetBuilder.createStreaming(file).forAllSheets().forAllDataSets()
+                .listOfStringsParams().paramToStringMap(false).build());
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void streamingSelectsSheetsByName() throws IOException {
+        Map<String, Object> expected;
+        try (Workbook wb = WorkbookFactory.create(file, null, true)) {
+            expected = read(DataSetBuilder.create(wb).forSheets("Second").forDataSets("DS_1").listOfStringsParams()
+                    .paramToStringMap(false).build());
+        }
+        Map<String, Object> actual = read(DataSetBuilder.createStreaming(file).forSheets("Second")
+                .forDataSets("DS_1").listOfStringsParams().paramToStringMap(false).build());
+        assertEquals(2, expected.size());
+        assertEquals(expected, actual);
+    }
+}
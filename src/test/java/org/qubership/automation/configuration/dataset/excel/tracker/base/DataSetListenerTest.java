@@ -0,0 +1,147 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ *
+ */
+
+package org.qubership.automation.configuration.dataset.excel.tracker.base;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.annotation.Nonnull;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.qubership.automation.configuration.dataset.excel.builder.DataSetBuilder;
+import org.qubership.automation.configuration.dataset.excel.core.DSLists;
+import org.qubership.automation.configuration.dataset.excel.impl.snapshot.DSListDiff;
+import org.qubership.automation.configuration.dataset.excel.impl.snapshot.DSListsDiff;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+public class DataSetListenerTest {
+
+    private Path dir;
+
+    private Path file;
+
+    private Tracker tracker;
+
+    private final List<DSListsDiff> diffs = new CopyOnWriteArrayList<>();
+
+    private static class Tracker extends AbstractTracker<String, List<String>, Map<String, String>> {
+
+        Tracker(@Nonnull final Path watchDir) {
+            super(watchDir, TrackerSettings.create().checkThreshold(0));
+        }
+
+        @Override
+        protected DSLists<String, List<String>, Map<String, String>> build(@Nonnull final DataSetBuilder builder) {
+            return builder.forAllSheets().forAllDataSets().listOfStringsParams().paramToStringMap(true).build();
+        }
+    }
+
+    @Before
+    public void createTracker() throws IOException {
+        dir = Files.createTempDirectory("listener");
+        file = dir.resolve("dataset.xlsx");
+        tracker = new Tracker(dir);
+        tracker.addListener((resource, diff) -> diffs.add(diff));
+    }
+
+    @After
+    public void closeTracker() throws IOException {
+        tracker.close();
+        FileUtils.deleteDirectory(dir.toFile());
+    }
+
+    private static byte[] workbook(final double value) throws IOException {
+        try (Workbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = wb.createSheet("S");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Entity");
+            header.createCell(1).setCellValue("Parameter");
+            header.createCell(2).setCellValue("DS_0");
+            Row p1 = sheet.createRow(1);
+            p1.createCell(0).setCellValue("E");
+            p1.createCell(1).setCellValue("p1");
+            p1.createCell(2).setCellValue(value);
+            Row p2 = sheet.createRow(2);
+            p2.createCell(1).setCellValue("p2");
+            p2.createCell(2).setCellValue("constant");
+            wb.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    private void write(final byte[] content) throws IOException {
+        long previous = Files.exists(file) ? file.toFile().lastModified() : 0;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            out.write(content);
+        }
+        // the file is checked by its modification time, which may be too coarse for quick rewrites
+        file.toFile().setLastModified(Math.max(previous + 10_000, file.toFile().lastModified()));
+    }
+
+    @Test
+    public void listenersSkipInvalidVersions() throws IOException {
+        write(workbook(1));
+        tracker.getDataSet(file);
+        assertEquals(1, diffs.size());
+        assertEquals(Collections.singletonList("S"), diffs.get(0).getAddedLists());
+
+        tracker.getDataSet(file);
+        assertEquals(1, diffs.size());
+
+        byte[] valid = workbook(2);
+        write(Arrays.copyOf(valid, valid.length / 2));
+        tracker.getDataSet(file);
+        assertEquals(1, diffs.size());
+
+        write(valid);
+        tracker.getDataSet(file);
+        assertEquals(2, diffs.size());
+        DSListsDiff fixed = diffs.get(1);
+        assertTrue(fixed.getAddedLists().isEmpty());
+        assertTrue(fixed.getRemovedLists().isEmpty());
+        assertEquals(1, fixed.getChangedLists().size());
+        DSListDiff changed = fixed.getChangedLists().get(0);
+        assertEquals("S", changed.getName());
+        assertEquals(ImmutableMap.of("DS_0", ImmutableSet.of("E.p1")), changed.getChangedValues());
+
+        Files.delete(file);
+        tracker.getDataSet(file);
+        assertEquals(3, diffs.size());
+        assertEquals(Collections.singletonList("S"), diffs.get(2).getRemovedLists());
+    }
+}